@@ -0,0 +1,60 @@
+package spring.jdbc.connection;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출마다 DriverManager로 TCP 커넥션을 여는 방식과 커넥션 풀 방식의 findById 비용 비교.
+ *
+ * <p>실제 운영과 같이 TCP 연결/핸드셰이크 비용이 드러나도록 벤치마크 안에서 H2 TCP 서버를 띄운다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=ConnectionAcquireBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConnectionAcquireBenchmark {
+
+    private static final String MEMBER_ID = "bench";
+
+    Server server;
+    HikariDataSource pooledDataSource;
+    MemberRepositoryV0 driverManagerRepository;
+    MemberRepositoryV0 pooledRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bench;DB_CLOSE_DELAY=-1";
+
+        pooledDataSource = DataSourceFactory.pooled(url, new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(pooledDataSource);
+
+        driverManagerRepository = new MemberRepositoryV0(DataSourceFactory.driverManager(url));
+        pooledRepository = new MemberRepositoryV0(pooledDataSource);
+        pooledRepository.save(new Member(MEMBER_ID, 10000));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pooledDataSource.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public Member driverManagerPerCall() throws SQLException {
+        return driverManagerRepository.findById(MEMBER_ID);
+    }
+
+    @Benchmark
+    public Member pooled() throws SQLException {
+        return pooledRepository.findById(MEMBER_ID);
+    }
+}
@@ -0,0 +1,117 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MemberRepositoryV0 CRUD 경로의 처리량.
+ *
+ * <p>커넥션 획득 비용이 드러나도록 {@link spring.jdbc.connection.ConnectionAcquireBenchmark}와 같이
+ * 벤치마크 안에서 H2 TCP 서버를 띄우고 TCP 로 접속한다. 인메모리 URL 은 연결 비용이 거의 없어
+ * pooled 와 driverManager 의 차이가 가려진다.</p>
+ *
+ * <ul>
+ *   <li>dataSource: pooled(HikariCP) vs driverManager(호출마다 새 커넥션)</li>
+ *   <li>insert100*: 100건 저장을 단건 save 반복 vs saveAll 배치로 비교 (ops = 100건 묶음)</li>
+ * </ul>
+ *
+ * <p>할당률은 gc 프로파일러로 함께 본다 (gc.alloc.rate.norm = 호출당 할당 바이트).</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=MemberCrudBenchmark -Pjmh.profilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberCrudBenchmark {
+
+    private static final String MEMBER_ID = "bench";
+    private static final int ROWS_PER_INSERT = 100;
+
+    @Param({"pooled", "driverManager"})
+    String dataSourceType;
+
+    Server server;
+    DataSource dataSource;
+    MemberRepositoryV0 repository;
+    final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:crud;DB_CLOSE_DELAY=-1";
+        dataSource = "pooled".equals(dataSourceType)
+                ? DataSourceFactory.pooled(url, new ConnectionPoolProperties())
+                : DataSourceFactory.driverManager(url);
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+        repository.save(new Member(MEMBER_ID, 10000));
+    }
+
+    /** 저장 벤치마크가 쌓은 행을 반복마다 비워 테이블 크기가 결과에 섞이지 않게 한다 */
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement()) {
+            stmt.executeUpdate("delete from member where member_id <> '" + MEMBER_ID + "'");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+        server.stop();
+    }
+
+    @Benchmark
+    public Member findById() throws SQLException {
+        return repository.findById(MEMBER_ID);
+    }
+
+    @Benchmark
+    public void update() throws SQLException {
+        repository.update(MEMBER_ID, (int) sequence.incrementAndGet());
+    }
+
+    @Benchmark
+    public void saveThenDelete() throws SQLException {
+        String memberId = "sd" + sequence.incrementAndGet();
+        repository.save(new Member(memberId, 0));
+        repository.delete(memberId);
+    }
+
+    @Benchmark
+    public void insert100Single() throws SQLException {
+        for (Member member : nextMembers()) {
+            repository.save(member);
+        }
+    }
+
+    @Benchmark
+    public int[] insert100Batch() throws SQLException {
+        return repository.saveAll(nextMembers(), ROWS_PER_INSERT);
+    }
+
+    private List<Member> nextMembers() {
+        List<Member> members = new ArrayList<>(ROWS_PER_INSERT);
+        for (int i = 0; i < ROWS_PER_INSERT; i++) {
+            members.add(new Member("ins" + sequence.incrementAndGet(), i));
+        }
+        return members;
+    }
+}
@@ -0,0 +1,64 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 없는 회원 조회(미스) 경로 비교: 예외 기반 findById vs findOptionalById vs negative cache.
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=MemberLookupMissBenchmark -Pjmh.profilers=gc</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberLookupMissBenchmark {
+
+    private static final String MISSING_ID = "nobody";
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+    NegativeCachingMemberRepository negativeCaching;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+        repository.save(new Member("bench", 10000));
+        negativeCaching = new NegativeCachingMemberRepository(repository, 10_000, Duration.ofMinutes(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Object findByIdThrows() throws SQLException {
+        try {
+            return repository.findById(MISSING_ID);
+        } catch (NoSuchElementException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Optional<Member> findOptionalById() throws SQLException {
+        return repository.findOptionalById(MISSING_ID);
+    }
+
+    @Benchmark
+    public Optional<Member> negativeCached() throws SQLException {
+        return negativeCaching.findOptionalById(MISSING_ID);
+    }
+}
@@ -0,0 +1,78 @@
+package spring.jdbc.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 매핑 hot path 비교: 컬럼 이름 조회(기존 findById 방식) vs 인덱스 고정 RowMapper.
+ *
+ * <p>쿼리 실행 비용을 빼기 위해 scroll 가능한 ResultSet 을 한 번 열어두고 매 호출마다 처음부터 다시 매핑한다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=MemberRowMapperBenchmark -Pjmh.profilers=gc</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MemberRowMapperBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    Connection con;
+    PreparedStatement pstmt;
+    ResultSet rs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        DataSource dataSource = DataSourceFactory.driverManager(MemberTestDatabase.newUrl());
+        MemberTestDatabase.createMemberTable(dataSource);
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("member" + i, i));
+        }
+        new MemberRepositoryV0(dataSource).saveAll(members);
+
+        con = dataSource.getConnection();
+        pstmt = con.prepareStatement("select " + MemberRowMapper.COLUMNS + " from member",
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        rs = pstmt.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        rs.close();
+        pstmt.close();
+        con.close();
+    }
+
+    @Benchmark
+    public void byColumnLabel(Blackhole bh) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            Member member = new Member();
+            member.setMemberId(rs.getString("member_id"));
+            member.setMoney(rs.getInt("money"));
+            bh.consume(member);
+        }
+    }
+
+    @Benchmark
+    public void byColumnIndex(Blackhole bh) throws SQLException {
+        rs.beforeFirst();
+        int rowNum = 0;
+        while (rs.next()) {
+            bh.consume(MemberRowMapper.INSTANCE.mapRow(rs, rowNum++));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package spring.jdbc.bulk;
+
+import lombok.Value;
+
+/**
+ * 벌크 적재 결과.
+ */
+@Value
+public class BulkLoadResult {
+
+    /** 체크포인트에서 이어받아 건너뛴 데이터 행 수 */
+    long resumedFrom;
+
+    /** 이번 실행에서 커밋한 행 수 */
+    long rowsLoaded;
+
+    long elapsedNanos;
+
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowsLoaded * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,225 @@
+package spring.jdbc.bulk;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.repository.MemberRepositoryV0;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * member 테이블 ↔ CSV 파일 벌크 import/export.
+ *
+ * <p>import 는 H2 의 {@code MERGE INTO ... KEY(member_id)}를 JDBC 배치로 보내고 {@code commitEvery}행마다 커밋한다.
+ * 커밋할 때마다 {@code <csv>.checkpoint} 파일에 커밋된 데이터 행 수를 기록하고, 다음 실행은 그 위치부터 이어서 적재한다.
+ * MERGE 는 멱등이므로 커밋 직후 체크포인트 기록 전에 중단되어 일부 행이 다시 적재되어도 결과는 같다.</p>
+ *
+ * <p>CSV 형식: 헤더 {@code member_id,money} + 한 줄에 한 회원. member_id 에는 쉼표가 없다고 가정한다.</p>
+ */
+@Slf4j
+public class MemberCsvBulkLoader {
+
+    public static final String HEADER = "member_id,money";
+
+    private static final String MERGE_SQL = "merge into member (member_id, money) key (member_id) values (?, ?)";
+
+    private final DataSource dataSource;
+    private final MemberRepositoryV0 repository;
+
+    public MemberCsvBulkLoader(DataSource dataSource, MemberRepositoryV0 repository) {
+        this.dataSource = dataSource;
+        this.repository = repository;
+    }
+
+    /**
+     * member 테이블 전체를 커서로 읽어 CSV 로 쓴다.
+     *
+     * @return 기록한 행 수
+     */
+    public long exportTo(Path csv) throws IOException, SQLException {
+        long start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            long rows = repository.forEach(member -> {
+                try {
+                    writer.write(member.getMemberId());
+                    writer.write(',');
+                    writer.write(Integer.toString(member.getMoney()));
+                    writer.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("export done rows={}, rows/sec={}", rows, (long) (rows * 1_000_000_000.0 / (System.nanoTime() - start)));
+            return rows;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * CSV 를 읽어 commitEvery 행마다 커밋하며 적재한다. 체크포인트가 있으면 그 다음 행부터 이어서 적재하고,
+     * 끝까지 적재하면 체크포인트를 지운다.
+     */
+    public BulkLoadResult importFrom(Path csv, int commitEvery) throws IOException, SQLException {
+        if (commitEvery < 1) {
+            throw new IllegalArgumentException("commitEvery must be positive: " + commitEvery);
+        }
+        Path checkpoint = checkpointOf(csv);
+        long resumeFrom = readCheckpoint(checkpoint);
+        if (resumeFrom > 0) {
+            log.info("resume import csv={} from row={}", csv, resumeFrom);
+        }
+
+        long start = System.nanoTime();
+        long committed = resumeFrom;
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        try (BufferedReader reader = Files.newBufferedReader(csv, UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || !HEADER.equalsIgnoreCase(line.trim())) {
+                throw new IllegalArgumentException("unexpected csv header: " + line);
+            }
+
+            con = dataSource.getConnection();
+            con.setAutoCommit(false);
+            pstmt = con.prepareStatement(MERGE_SQL);
+
+            long dataRow = 0;
+            int pending = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || dataRow++ < resumeFrom) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma < 0) {
+                    throw new IllegalArgumentException("invalid csv row " + dataRow + ": " + line);
+                }
+                pstmt.setString(1, unquote(line.substring(0, comma)));
+                pstmt.setInt(2, Integer.parseInt(unquote(line.substring(comma + 1))));
+                pstmt.addBatch();
+
+                if (++pending == commitEvery) {
+                    committed = commit(con, pstmt, checkpoint, committed, pending);
+                    pending = 0;
+                    logProgress(committed, committed - resumeFrom, start);
+                }
+            }
+            if (pending > 0) {
+                committed = commit(con, pstmt, checkpoint, committed, pending);
+            }
+            Files.deleteIfExists(checkpoint);
+
+            BulkLoadResult result = new BulkLoadResult(resumeFrom, committed - resumeFrom, System.nanoTime() - start);
+            log.info("import done rows={}, resumedFrom={}, rows/sec={}",
+                    result.getRowsLoaded(), resumeFrom, (long) result.rowsPerSecond());
+            return result;
+        } catch (SQLException | IOException | RuntimeException e) {
+            log.error("import failed csv={}, committed rows={}", csv, committed, e);
+            rollback(con);
+            throw e;
+        } finally {
+            close(con, pstmt);
+        }
+    }
+
+    /**
+     * H2 의 CSVREAD 로 파일을 DB 안에서 직접 읽어 한 문장으로 MERGE 한다.
+     * 파일이 DB 프로세스에서 보이는 경로(임베디드 H2 또는 같은 서버)일 때만 쓸 수 있고 체크포인트는 없다.
+     * H2 는 CSVREAD 의 파일 이름을 바인딩 파라미터로 받지 않으므로 작은따옴표를 이스케이프한 리터럴로 넣는다.
+     *
+     * @return 반영된 행 수
+     */
+    public int mergeWithCsvRead(Path csv) throws SQLException {
+        String fileName = csv.toAbsolutePath().toString().replace("'", "''");
+        String sql = "merge into member (member_id, money) key (member_id) " +
+                "select member_id, cast(money as integer) from csvread('" + fileName + "', null, 'charset=UTF-8')";
+        long start = System.nanoTime();
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement()) {
+            int rows = stmt.executeUpdate(sql);
+            log.info("csvread merge done rows={}, rows/sec={}", rows, (long) (rows * 1_000_000_000.0 / (System.nanoTime() - start)));
+            return rows;
+        }
+    }
+
+    public static Path checkpointOf(Path csv) {
+        return csv.resolveSibling(csv.getFileName() + ".checkpoint");
+    }
+
+    private long commit(Connection con, PreparedStatement pstmt, Path checkpoint,
+                        long committed, int pending) throws SQLException, IOException {
+        pstmt.executeBatch();
+        con.commit();
+        long total = committed + pending;
+        writeCheckpoint(checkpoint, total);
+        return total;
+    }
+
+    private static long readCheckpoint(Path checkpoint) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpoint, UTF_8).trim());
+    }
+
+    private static void writeCheckpoint(Path checkpoint, long committedRows) throws IOException {
+        /* 중간에 죽어도 반쯤 쓴 파일이 남지 않도록 임시 파일을 쓰고 교체한다 */
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(committedRows), UTF_8);
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void logProgress(long committed, long loaded, long startNanos) {
+        log.info("import progress committed={}, rows/sec={}",
+                committed, (long) (loaded * 1_000_000_000.0 / (System.nanoTime() - startNanos)));
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private void rollback(Connection con) {
+        if (con != null) {
+            try {
+                con.rollback();
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+    }
+
+    private void close(Connection con, PreparedStatement pstmt) {
+        if (pstmt != null) {
+            try {
+                pstmt.close();
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+        if (con != null) {
+            try {
+                con.setAutoCommit(true);
+                con.close();
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+    }
+}
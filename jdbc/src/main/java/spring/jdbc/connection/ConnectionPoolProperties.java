@@ -0,0 +1,34 @@
+package spring.jdbc.connection;
+
+import lombok.Data;
+
+/**
+ * 커넥션 풀 설정값.
+ *
+ * <p>HikariCP 설정으로 그대로 옮겨진다. Hikari는 별도의 max idle 설정이 없고,
+ * {@code minIdle}을 넘는 유휴 커넥션은 {@code idleTimeoutMs}가 지나면 정리된다.</p>
+ */
+@Data
+public class ConnectionPoolProperties {
+
+    /** 풀 이름 (로그/JMX 식별용) */
+    private String poolName = "MemberPool";
+
+    /** 항상 유지할 최소 유휴 커넥션 수 */
+    private int minIdle = 2;
+
+    /** 풀이 보유할 수 있는 최대 커넥션 수 */
+    private int maxPoolSize = 10;
+
+    /** 커넥션 획득 대기 시간. 초과하면 SQLTransientConnectionException */
+    private long acquireTimeoutMs = 3_000;
+
+    /** minIdle 초과분 유휴 커넥션을 정리하기까지의 시간 */
+    private long idleTimeoutMs = 60_000;
+
+    /** 빌려줄 때 커넥션 유효성 검사(Connection.isValid)에 허용하는 시간 */
+    private long validationTimeoutMs = 1_000;
+
+    /** 이 시간 이상 반납되지 않은 커넥션은 누수 의심으로 경고 로그를 남긴다. 0이면 비활성 */
+    private long leakDetectionThresholdMs = 10_000;
+}
@@ -0,0 +1,66 @@
+package spring.jdbc.connection;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import spring.jdbc.metrics.PoolMetrics;
+
+import javax.sql.DataSource;
+
+import static spring.jdbc.connection.ConnectionConst.*;
+
+/**
+ * 리포지토리가 사용할 {@link DataSource}를 생성한다.
+ *
+ * <ul>
+ *   <li>{@link #driverManager()} - 호출마다 DriverManager로 새 커넥션을 연다 (기존 DBConnectionUtil 방식)</li>
+ *   <li>{@link #pooled()} - HikariCP 커넥션 풀. close() 시 물리 커넥션을 닫지 않고 풀에 반납한다</li>
+ *   <li>풀 포화/누수를 보려면 {@link PoolMetrics} 를 넘기고, 필요하면 {@link LeakTrackingDataSource} 로 감싼다</li>
+ * </ul>
+ */
+@Slf4j
+public class DataSourceFactory {
+
+    public static DataSource driverManager() {
+        return driverManager(URL);
+    }
+
+    public static DataSource driverManager(String url) {
+        return new DriverManagerDataSource(url, USERNAME, PASSWORD);
+    }
+
+    public static HikariDataSource pooled() {
+        return pooled(URL, new ConnectionPoolProperties());
+    }
+
+    public static HikariDataSource pooled(String url, ConnectionPoolProperties properties) {
+        return pooled(url, properties, null);
+    }
+
+    /**
+     * @param poolMetrics 풀 지표를 받을 {@link PoolMetrics}, null 이면 수집하지 않는다
+     */
+    public static HikariDataSource pooled(String url, ConnectionPoolProperties properties, PoolMetrics poolMetrics) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(USERNAME);
+        config.setPassword(PASSWORD);
+        config.setPoolName(properties.getPoolName());
+        config.setMinimumIdle(properties.getMinIdle());
+        config.setMaximumPoolSize(properties.getMaxPoolSize());
+        config.setConnectionTimeout(properties.getAcquireTimeoutMs());
+        config.setIdleTimeout(properties.getIdleTimeoutMs());
+        /* 대여 시점 검증: Hikari는 일정 시간 이상 유휴였던 커넥션을 빌려주기 전에 isValid()로 검사한다 */
+        config.setValidationTimeout(properties.getValidationTimeoutMs());
+        config.setLeakDetectionThreshold(properties.getLeakDetectionThresholdMs());
+        if (poolMetrics != null) {
+            config.setMetricsTrackerFactory(poolMetrics);
+        }
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        log.info("pooled dataSource created pool={}, minIdle={}, maxPoolSize={}",
+                properties.getPoolName(), properties.getMinIdle(), properties.getMaxPoolSize());
+        return dataSource;
+    }
+}
@@ -0,0 +1,183 @@
+package spring.jdbc.connection;
+
+import lombok.Value;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * 지금 커넥션을 빌려가 있는 쪽(borrower)을 추적하는 {@link DataSource} 래퍼.
+ *
+ * <p>getConnection() 마다 빌려간 스레드와 호출 스택을 기록하고, 돌려준 커넥션의 close() 에서 지운다.
+ * {@link #findLeaks(Duration)} 는 threshold 보다 오래 반납되지 않은 대여를 오래된 순으로 돌려준다.
+ * Hikari 의 leakDetectionThreshold 는 로그만 남기므로, 조회 가능한 목록이 필요할 때 풀 앞에 둔다.</p>
+ *
+ * <p>스택 수집은 대여마다 Throwable 을 만드는 비용이 있으므로 captureStackTraces 로 끌 수 있다.</p>
+ */
+public class LeakTrackingDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final boolean captureStackTraces;
+    private final Map<Long, Borrow> borrows = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LeakTrackingDataSource(DataSource delegate) {
+        this(delegate, true);
+    }
+
+    public LeakTrackingDataSource(DataSource delegate, boolean captureStackTraces) {
+        this.delegate = delegate;
+        this.captureStackTraces = captureStackTraces;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(delegate.getConnection(username, password));
+    }
+
+    /** 현재 빌려가 있는 커넥션 수 */
+    public int getBorrowedCount() {
+        return borrows.size();
+    }
+
+    /**
+     * threshold 이상 반납되지 않은 대여 목록 (오래된 순).
+     */
+    public List<Borrow> findLeaks(Duration threshold) {
+        long now = System.nanoTime();
+        long thresholdNanos = threshold.toNanos();
+        return borrows.values().stream()
+                .filter(borrow -> now - borrow.getBorrowedAtNanos() >= thresholdNanos)
+                .sorted(Comparator.comparingLong(Borrow::getBorrowedAtNanos))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * {@link #findLeaks(Duration)} 를 스택과 함께 사람이 읽을 수 있는 형태로 만든다. 없으면 빈 문자열.
+     */
+    public String leakReport(Duration threshold) {
+        StringBuilder sb = new StringBuilder();
+        for (Borrow borrow : findLeaks(threshold)) {
+            sb.append(String.format("connection held %dms by thread=%s since %s%n",
+                    borrow.heldFor().toMillis(), borrow.getThreadName(), borrow.getBorrowedAt()));
+            for (StackTraceElement element : borrow.getStackTrace()) {
+                sb.append("    at ").append(element).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    private Connection track(Connection connection) {
+        long id = sequence.incrementAndGet();
+        StackTraceElement[] stack = captureStackTraces
+                ? trimmed(new Throwable().getStackTrace())
+                : new StackTraceElement[0];
+        borrows.put(id, new Borrow(Thread.currentThread().getName(), System.nanoTime(), Instant.now(), stack));
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ReleaseHandler(connection, id));
+    }
+
+    /** track/getConnection 자신의 프레임은 빼고 호출한 쪽부터 남긴다 */
+    private static StackTraceElement[] trimmed(StackTraceElement[] stack) {
+        int from = 0;
+        while (from < stack.length && stack[from].getClassName().equals(LeakTrackingDataSource.class.getName())) {
+            from++;
+        }
+        return Arrays.copyOfRange(stack, from, stack.length);
+    }
+
+    /**
+     * close() 에서 대여 기록을 지우고 나머지 호출은 그대로 넘긴다.
+     */
+    private class ReleaseHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long id;
+
+        ReleaseHandler(Connection target, long id) {
+            this.target = target;
+            this.id = id;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                borrows.remove(id);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @Value
+    public static class Borrow {
+        String threadName;
+        long borrowedAtNanos;
+        Instant borrowedAt;
+        StackTraceElement[] stackTrace;
+
+        public Duration heldFor() {
+            return Duration.ofNanos(System.nanoTime() - borrowedAtNanos);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || delegate.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,152 @@
+package spring.jdbc.connection;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 커넥션별 PreparedStatement 캐시.
+ *
+ * <p>SQL 문자열을 키로 커넥션마다 최대 {@code maxStatementsPerConnection}개의 statement를
+ * LRU로 보관한다. statement는 넘겨받은 커넥션(풀이면 프록시 커넥션)에서 prepare 한다.
+ * 물리 커넥션에서 직접 prepare 하면 풀이 statement 를 추적하지 못해, 그 statement 로 쓴 변경이
+ * 커넥션을 dirty 로 표시하지 않고(반납 시 미커밋 트랜잭션 rollback 누락) 반납 시 닫히지도 않는다.</p>
+ *
+ * <p>따라서 재사용 범위는 한 번의 대여 안(트랜잭션, findByIds 의 청크 반복 등)이다. 반납되면 풀이
+ * statement 를 닫으므로 다음 대여에서는 다시 prepare 한다. 대여를 넘는 재사용은 드라이버 쪽
+ * statement 캐시(H2 는 세션별 파싱 캐시 QUERY_CACHE_SIZE, MySQL 은 cachePrepStmts 등)에 맡긴다.
+ * 호출마다 커넥션을 빌렸다 돌려주는 경로는 얻을 것이 없으므로 이 캐시를 거치지 않게 한다.</p>
+ *
+ * <p>한 커넥션은 한 번에 한 스레드만 사용한다는 풀의 보장에 기대므로 커넥션별 LRU 맵에는
+ * 락을 걸지 않는다. 캐시에서 받은 statement는 close() 대신 {@link #release(PreparedStatement)}로 돌려준다.</p>
+ */
+@Slf4j
+public class PreparedStatementCache {
+
+    private final int maxStatementsPerConnection;
+
+    private final Map<Connection, Map<String, PreparedStatement>> statementsByConnection = new IdentityHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxStatementsPerConnection 커넥션당 보관할 statement 수. 0이면 캐시하지 않는다
+     */
+    public PreparedStatementCache(int maxStatementsPerConnection) {
+        if (maxStatementsPerConnection < 0) {
+            throw new IllegalArgumentException("maxStatementsPerConnection must not be negative: " + maxStatementsPerConnection);
+        }
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /** 매번 prepare 하고 release 시 닫는, 캐시를 사용하지 않는 인스턴스 */
+    public static PreparedStatementCache disabled() {
+        return new PreparedStatementCache(0);
+    }
+
+    public PreparedStatement prepare(Connection con, String sql) throws SQLException {
+        if (maxStatementsPerConnection == 0) {
+            return con.prepareStatement(sql);
+        }
+
+        Map<String, PreparedStatement> statements = statementsOf(con);
+
+        PreparedStatement pstmt = statements.get(sql);
+        if (pstmt != null && !pstmt.isClosed()) {
+            hits.increment();
+            return pstmt;
+        }
+        misses.increment();
+        pstmt = con.prepareStatement(sql);
+        statements.put(sql, pstmt);
+        return pstmt;
+    }
+
+    /**
+     * 캐시된 statement는 파라미터만 비우고 열어둔다. 캐시 비활성 상태면 닫는다.
+     */
+    public void release(PreparedStatement pstmt) throws SQLException {
+        if (maxStatementsPerConnection == 0) {
+            pstmt.close();
+        } else {
+            pstmt.clearParameters();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementCache(max=" + maxStatementsPerConnection + ", hits=" + getHits()
+                + ", misses=" + getMisses() + ", evictions=" + getEvictions() + ")";
+    }
+
+    private synchronized Map<String, PreparedStatement> statementsOf(Connection con) throws SQLException {
+        Map<String, PreparedStatement> statements = statementsByConnection.get(con);
+        if (statements == null) {
+            /* 새 커넥션이 보일 때 이미 닫힌(반납된) 커넥션의 항목을 정리한다 */
+            purgeClosedConnections();
+            statements = new LruStatements(maxStatementsPerConnection);
+            statementsByConnection.put(con, statements);
+        }
+        return statements;
+    }
+
+    private void purgeClosedConnections() throws SQLException {
+        Iterator<Connection> it = statementsByConnection.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().isClosed()) {
+                it.remove();
+            }
+        }
+    }
+
+    private class LruStatements extends LinkedHashMap<String, PreparedStatement> {
+
+        private final int maxSize;
+
+        LruStatements(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= maxSize) {
+                return false;
+            }
+            evictions.increment();
+            try {
+                eldest.getValue().close();
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package spring.jdbc.metrics;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 별 지연 시간 히스토그램과 슬로우 쿼리를 메모리에 모으는 {@link JdbcInstrumentation}.
+ *
+ * <p>statement 실행 시간이 {@code slowQueryThresholdNanos} 이상이면 슬로우 쿼리로 기록하고 경고 로그를 남긴다.
+ * 슬로우 쿼리는 최근 {@code maxSlowQueries}건만 보관한다.</p>
+ */
+@Slf4j
+public class InMemoryJdbcMetrics implements JdbcInstrumentation {
+
+    private final long slowQueryThresholdNanos;
+    private final int maxSlowQueries;
+
+    private final LatencyHistogram connectionAcquire = new LatencyHistogram();
+    private final Map<String, SqlMetrics> sqlMetrics = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> slowQueries = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger slowQueryCount = new AtomicInteger();
+
+    public InMemoryJdbcMetrics(long slowQueryThreshold, TimeUnit unit) {
+        this(slowQueryThreshold, unit, 100);
+    }
+
+    public InMemoryJdbcMetrics(long slowQueryThreshold, TimeUnit unit, int maxSlowQueries) {
+        this.slowQueryThresholdNanos = unit.toNanos(slowQueryThreshold);
+        this.maxSlowQueries = maxSlowQueries;
+    }
+
+    @Override
+    public void connectionAcquired(long elapsedNanos) {
+        connectionAcquire.record(elapsedNanos);
+    }
+
+    @Override
+    public void statementExecuted(String sql, long elapsedNanos, int updateCount) {
+        SqlMetrics metrics = metricsOf(sql);
+        metrics.execute.record(elapsedNanos);
+        if (updateCount > 0) {
+            metrics.rows.add(updateCount);
+        }
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            recordSlowQuery(new SlowQuery(sql, elapsedNanos, updateCount, Instant.now()));
+        }
+    }
+
+    @Override
+    public void resultMapped(String sql, long elapsedNanos, long rowCount) {
+        SqlMetrics metrics = metricsOf(sql);
+        metrics.mapping.record(elapsedNanos);
+        metrics.rows.add(rowCount);
+    }
+
+    public LatencyHistogram getConnectionAcquire() {
+        return connectionAcquire;
+    }
+
+    /** SQL 문자열 → 실행/매핑 통계 */
+    public Map<String, SqlMetrics> getSqlMetrics() {
+        return sqlMetrics;
+    }
+
+    /** 최근 슬로우 쿼리 (오래된 순) */
+    public List<SlowQuery> getSlowQueries() {
+        return new ArrayList<>(slowQueries);
+    }
+
+    /** 워밍업 등 이전 구간의 기록을 모두 비운다 (커넥션 획득 히스토그램 포함) */
+    public void reset() {
+        connectionAcquire.reset();
+        sqlMetrics.clear();
+        slowQueries.clear();
+        slowQueryCount.set(0);
+    }
+
+    /**
+     * 사람이 읽을 수 있는 형태의 요약. 실행 횟수가 많은 SQL 부터 출력한다.
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("connection acquire count=%d p50=%dus p99=%dus max=%dus%n",
+                connectionAcquire.getCount(),
+                micros(connectionAcquire.percentileNanos(0.5)),
+                micros(connectionAcquire.percentileNanos(0.99)),
+                micros(connectionAcquire.getMaxNanos())));
+
+        sqlMetrics.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, SqlMetrics> e) -> e.getValue().execute.getCount()).reversed())
+                .forEach(e -> {
+                    SqlMetrics m = e.getValue();
+                    sb.append(String.format("[%s]%n  execute count=%d p50=%dus p99=%dus max=%dus, mapping p99=%dus, rows=%d%n",
+                            e.getKey(),
+                            m.execute.getCount(),
+                            micros(m.execute.percentileNanos(0.5)),
+                            micros(m.execute.percentileNanos(0.99)),
+                            micros(m.execute.getMaxNanos()),
+                            micros(m.mapping.percentileNanos(0.99)),
+                            m.getRowCount()));
+                });
+
+        sb.append(String.format("slow queries (>= %dus): %d%n", micros(slowQueryThresholdNanos), slowQueryCount.get()));
+        for (SlowQuery slowQuery : slowQueries) {
+            sb.append(String.format("  %s %dus [%s]%n", slowQuery.getAt(), micros(slowQuery.getElapsedNanos()), slowQuery.getSql()));
+        }
+        return sb.toString();
+    }
+
+    private SqlMetrics metricsOf(String sql) {
+        SqlMetrics metrics = sqlMetrics.get(sql);
+        return metrics != null ? metrics : sqlMetrics.computeIfAbsent(sql, key -> new SqlMetrics());
+    }
+
+    private void recordSlowQuery(SlowQuery slowQuery) {
+        log.warn("slow query {}us sql=[{}]", micros(slowQuery.getElapsedNanos()), slowQuery.getSql());
+        slowQueryCount.incrementAndGet();
+        slowQueries.addLast(slowQuery);
+        while (slowQueries.size() > maxSlowQueries) {
+            slowQueries.pollFirst();
+        }
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public static class SqlMetrics {
+
+        private final LatencyHistogram execute = new LatencyHistogram();
+        private final LatencyHistogram mapping = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+
+        public LatencyHistogram getExecute() {
+            return execute;
+        }
+
+        public LatencyHistogram getMapping() {
+            return mapping;
+        }
+
+        public long getRowCount() {
+            return rows.sum();
+        }
+    }
+
+    @Value
+    public static class SlowQuery {
+        String sql;
+        long elapsedNanos;
+        int updateCount;
+        Instant at;
+    }
+}
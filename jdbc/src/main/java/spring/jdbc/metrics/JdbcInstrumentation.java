@@ -0,0 +1,32 @@
+package spring.jdbc.metrics;
+
+/**
+ * 리포지토리의 JDBC 호출 구간(커넥션 획득, statement 실행, 결과 매핑)을 관찰하는 훅.
+ *
+ * <p>모든 메서드는 호출 스레드에서 동기적으로 불리므로 구현체는 가볍고 스레드 안전해야 한다.
+ * 시간은 모두 나노초 단위다.</p>
+ */
+public interface JdbcInstrumentation {
+
+    /** 조회 쿼리처럼 update count 가 없는 실행 */
+    int NO_UPDATE_COUNT = -1;
+
+    /** 아무 것도 기록하지 않는 기본 구현 */
+    JdbcInstrumentation NOOP = new JdbcInstrumentation() {
+    };
+
+    default void connectionAcquired(long elapsedNanos) {
+    }
+
+    /**
+     * @param updateCount executeUpdate/executeBatch 의 반영 행 수, 조회면 {@link #NO_UPDATE_COUNT}
+     */
+    default void statementExecuted(String sql, long elapsedNanos, int updateCount) {
+    }
+
+    /**
+     * ResultSet 을 순회하며 객체로 매핑한 구간. 커서 스캔(streamAll/forEach)은 전체 순회 시간이다.
+     */
+    default void resultMapped(String sql, long elapsedNanos, long rowCount) {
+    }
+}
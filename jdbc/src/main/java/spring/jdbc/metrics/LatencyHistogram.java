@@ -0,0 +1,83 @@
+package spring.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없이 기록하는 지연 시간 히스토그램.
+ *
+ * <p>나노초 값을 2의 거듭제곱 구간(1, 2, 4, ... ns)으로 나누어 센다. 백분위는 해당 구간의 상한으로
+ * 근사하므로 최대 2배까지 크게 나올 수 있지만, 기록 비용이 배열 증가 한 번이라 hot path 에 둘 수 있다.</p>
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long n = getCount();
+        return n == 0 ? 0 : totalNanos.sum() / n;
+    }
+
+    /**
+     * 모든 기록을 비운다. 동시에 기록 중인 값은 비운 뒤에 남을 수 있다.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * @param percentile 0.0 ~ 1.0 (예: 0.99)
+     * @return 해당 백분위가 속한 구간의 상한 (최대값을 넘지 않음)
+     */
+    public long percentileNanos(double percentile) {
+        long n = getCount();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    private static int bucketOf(long nanos) {
+        /* 0 → 0, 1 → 1, 2~3 → 2, 4~7 → 3 ... */
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,138 @@
+package spring.jdbc.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 가 직접 보고하는 풀 지표를 메모리에 모은다. {@code HikariConfig#setMetricsTrackerFactory} 에 등록한다.
+ *
+ * <ul>
+ *   <li>현재 상태: total/active/idle 커넥션 수, 커넥션을 기다리는 스레드 수(pending)</li>
+ *   <li>acquireWait: getConnection() 이 풀에서 커넥션을 받기까지 기다린 시간</li>
+ *   <li>connectionUsage: 빌려간 커넥션을 반납하기까지의 시간 (대여 수명)</li>
+ *   <li>connectionCreation: 물리 커넥션 생성 시간, timeoutCount: 대기 시간 초과로 실패한 횟수</li>
+ * </ul>
+ *
+ * <p>현재 상태 값은 Hikari 의 {@link PoolStats} 가 약 1초마다 갱신하는 값이라 그만큼 늦게 반영된다.
+ * connectionCreation 은 이 팩토리가 등록된 뒤 만든 커넥션만 센다.
+ * 풀을 시작하며 처음 채우는 커넥션은 Hikari 가 보고하지 않을 수 있으므로 생성 횟수로 쓰지 않는다.</p>
+ *
+ * <p>풀 하나에 인스턴스 하나를 쓴다.</p>
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LatencyHistogram acquireWait = new LatencyHistogram();
+    private final LatencyHistogram connectionUsage = new LatencyHistogram();
+    private final LatencyHistogram connectionCreation = new LatencyHistogram();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public int getTotalConnections() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getTotalConnections();
+    }
+
+    public int getActiveConnections() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getActiveConnections();
+    }
+
+    public int getIdleConnections() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getIdleConnections();
+    }
+
+    /** 커넥션을 얻지 못해 대기 중인 스레드 수. 0 보다 크게 유지되면 풀이 포화된 것이다 */
+    public int getPendingThreads() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getPendingThreads();
+    }
+
+    public int getMaxConnections() {
+        PoolStats stats = poolStats;
+        return stats == null ? 0 : stats.getMaxConnections();
+    }
+
+    public LatencyHistogram getAcquireWait() {
+        return acquireWait;
+    }
+
+    public LatencyHistogram getConnectionUsage() {
+        return connectionUsage;
+    }
+
+    public LatencyHistogram getConnectionCreation() {
+        return connectionCreation;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * 사람이 읽을 수 있는 형태의 요약.
+     */
+    public String dump() {
+        return String.format("pool=%s total=%d active=%d idle=%d pending=%d max=%d timeouts=%d%n"
+                        + "  acquire wait count=%d p50=%dus p99=%dus max=%dus%n"
+                        + "  usage p50=%dms p99=%dms max=%dms, creation p99=%dms%n",
+                poolName, getTotalConnections(), getActiveConnections(), getIdleConnections(),
+                getPendingThreads(), getMaxConnections(), getTimeoutCount(),
+                acquireWait.getCount(),
+                micros(acquireWait.percentileNanos(0.5)),
+                micros(acquireWait.percentileNanos(0.99)),
+                micros(acquireWait.getMaxNanos()),
+                millis(connectionUsage.percentileNanos(0.5)),
+                millis(connectionUsage.percentileNanos(0.99)),
+                millis(connectionUsage.getMaxNanos()),
+                millis(connectionCreation.percentileNanos(0.99)));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            connectionCreation.record(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireWait.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            connectionUsage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCount.increment();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package spring.jdbc.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.connection.LeakTrackingDataSource;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PoolMetrics} 요약과 누수 의심 대여를 주기적으로 로그로 남긴다.
+ *
+ * <ul>
+ *   <li>매 주기 info 로 풀 상태를 남기고, 대기 스레드(pending)가 있으면 warn 으로 올린다</li>
+ *   <li>leakTracker 가 있으면 leakThreshold 보다 오래 반납되지 않은 대여를 borrower 스택과 함께 warn 으로 남긴다</li>
+ * </ul>
+ */
+@Slf4j
+public class PoolMetricsReporter implements AutoCloseable {
+
+    private final PoolMetrics metrics;
+    private final LeakTrackingDataSource leakTracker;
+    private final Duration leakThreshold;
+    private final ScheduledExecutorService scheduler;
+
+    public PoolMetricsReporter(PoolMetrics metrics, Duration interval) {
+        this(metrics, null, null, interval);
+    }
+
+    public PoolMetricsReporter(PoolMetrics metrics, LeakTrackingDataSource leakTracker,
+                               Duration leakThreshold, Duration interval) {
+        this.metrics = metrics;
+        this.leakTracker = leakTracker;
+        this.leakThreshold = leakThreshold;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pool-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = interval.toMillis();
+        scheduler.scheduleAtFixedRate(this::reportQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 한 번 보고한다.
+     *
+     * @return 이번 보고에서 찾은 누수 의심 대여 수
+     */
+    public int report() {
+        if (metrics.getPendingThreads() > 0) {
+            log.warn("connection pool saturated\n{}", metrics.dump());
+        } else {
+            log.info("connection pool\n{}", metrics.dump());
+        }
+
+        if (leakTracker == null) {
+            return 0;
+        }
+        int leaks = leakTracker.findLeaks(leakThreshold).size();
+        if (leaks > 0) {
+            log.warn("{} connection(s) held longer than {}ms\n{}",
+                    leaks, leakThreshold.toMillis(), leakTracker.leakReport(leakThreshold));
+        }
+        return leaks;
+    }
+
+    /** 스케줄러 스레드에서 예외가 나면 이후 실행이 취소되므로 삼킨다 */
+    private void reportQuietly() {
+        try {
+            report();
+        } catch (RuntimeException e) {
+            log.error("pool metrics report failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
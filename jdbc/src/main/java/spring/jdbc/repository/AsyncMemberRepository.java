@@ -0,0 +1,140 @@
+package spring.jdbc.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.domain.Member;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블로킹 {@link MemberRepository}를 {@link CompletableFuture}로 감싸는 비동기 파사드.
+ *
+ * <p>동시에 DB 작업을 수행하는 작업 수를 세마포어로 {@code maxConcurrency}(보통 커넥션 풀 크기)로 제한한다.
+ * 가상 스레드 실행기와 함께 쓰면 수천 건의 조회를 동시에 요청해도 대기 중인 작업은 가상 스레드에서
+ * 세마포어를 기다릴 뿐 플랫폼 스레드를 점유하지 않는다.</p>
+ *
+ * <p>가상 스레드는 Java 21 부터 사용할 수 있다. 이 모듈은 Java 17 로 빌드되므로
+ * {@link #create(MemberRepository, int)}는 실행 중인 JVM 에 가상 스레드가 있으면 사용하고,
+ * 없으면 maxConcurrency 크기의 고정 스레드 풀로 대체한다.</p>
+ *
+ * <p>SQL 예외는 future 의 예외 완료(cause = SQLException)로 전달된다. close() 시 실행기를 종료한다.</p>
+ */
+@Slf4j
+public class AsyncMemberRepository implements AutoCloseable {
+
+    private final MemberRepository delegate;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AsyncMemberRepository(MemberRepository delegate, ExecutorService executor, int maxConcurrency) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 가상 스레드가 있으면 가상 스레드, 없으면 플랫폼 스레드 고정 풀을 사용한다.
+     */
+    public static AsyncMemberRepository create(MemberRepository delegate, int maxConcurrency) {
+        Optional<ExecutorService> virtual = newVirtualThreadPerTaskExecutor();
+        if (virtual.isPresent()) {
+            return new AsyncMemberRepository(delegate, virtual.get(), maxConcurrency);
+        }
+        log.info("virtual threads unavailable on Java {}, using {} platform threads",
+                Runtime.version().feature(), maxConcurrency);
+        return withPlatformThreads(delegate, maxConcurrency);
+    }
+
+    public static AsyncMemberRepository withPlatformThreads(MemberRepository delegate, int maxConcurrency) {
+        return new AsyncMemberRepository(delegate, Executors.newFixedThreadPool(maxConcurrency), maxConcurrency);
+    }
+
+    /**
+     * Java 21+ 의 {@code Executors.newVirtualThreadPerTaskExecutor()}. 17 에서 컴파일되므로 리플렉션으로 찾는다.
+     */
+    public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    public CompletableFuture<Member> saveAsync(Member member) {
+        return submit(() -> delegate.save(member));
+    }
+
+    public CompletableFuture<Member> findByIdAsync(String memberId) {
+        return submit(() -> delegate.findById(memberId));
+    }
+
+    public CompletableFuture<Void> updateAsync(String memberId, int money) {
+        return submit(() -> {
+            delegate.update(memberId, money);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> deleteAsync(String memberId) {
+        return submit(() -> {
+            delegate.delete(memberId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Boolean> addMoneyAsync(String memberId, int delta) {
+        return submit(() -> delegate.addMoney(memberId, delta));
+    }
+
+    /** 실행 중인 작업이 끝날 때까지 최대 30초 기다린 뒤 실행기를 종료한다 */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(SqlTask<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(e);
+                    return;
+                }
+                try {
+                    future.complete(task.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface SqlTask<T> {
+        T call() throws SQLException;
+    }
+}
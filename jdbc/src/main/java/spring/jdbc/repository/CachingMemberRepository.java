@@ -0,0 +1,144 @@
+package spring.jdbc.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.domain.Member;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * findById 결과를 메모리에 캐시하는 {@link MemberRepository} 데코레이터 (read-through).
+ *
+ * <ul>
+ *   <li>최대 건수 + 쓰기 후 TTL 로 만료</li>
+ *   <li>같은 id 에 대한 동시 미스는 한 번만 조회한다 (Caffeine 의 키 단위 원자적 로딩)</li>
+ *   <li>save 는 캐시에 넣고, update/delete/addMoney/compareAndSetMoney 는 DB 반영 후 항목을 무효화한다.
+ *       무효화는 진행 중인 로딩이 끝나기를 기다리므로 오래된 값이 남지 않는다</li>
+ * </ul>
+ *
+ * <p>Member 는 가변 객체이므로 캐시에는 복사본을 넣고 꺼낼 때도 복사본을 돌려준다.</p>
+ */
+@Slf4j
+public class CachingMemberRepository implements MemberRepository {
+
+    private final MemberRepository delegate;
+    private final Cache<String, Member> cache;
+
+    public CachingMemberRepository(MemberRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Member save(Member member) throws SQLException {
+        Member saved = delegate.save(member);
+        cache.put(saved.getMemberId(), copyOf(saved));
+        return saved;
+    }
+
+    /**
+     * 없는 회원은 캐시에 남지 않는다. 미스 결과까지 캐시하려면 {@link NegativeCachingMemberRepository} 로 감싼다.
+     */
+    @Override
+    public Optional<Member> findOptionalById(String memberId) throws SQLException {
+        try {
+            return Optional.ofNullable(cache.get(memberId, this::load)).map(CachingMemberRepository::copyOf);
+        } catch (LoadFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void update(String memberId, int money) throws SQLException {
+        try {
+            delegate.update(memberId, money);
+        } finally {
+            cache.invalidate(memberId);
+        }
+    }
+
+    @Override
+    public void delete(String memberId) throws SQLException {
+        try {
+            delegate.delete(memberId);
+        } finally {
+            cache.invalidate(memberId);
+        }
+    }
+
+    @Override
+    public boolean addMoney(String memberId, int delta) throws SQLException {
+        try {
+            return delegate.addMoney(memberId, delta);
+        } finally {
+            cache.invalidate(memberId);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetMoney(String memberId, int expected, int newValue) throws SQLException {
+        try {
+            return delegate.compareAndSetMoney(memberId, expected, newValue);
+        } finally {
+            cache.invalidate(memberId);
+        }
+    }
+
+    public void invalidate(String memberId) {
+        cache.invalidate(memberId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 누적 통계 스냅샷. hitRate(), averageLoadPenalty()(ns), evictionCount() 등을 제공한다.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /** 비동기로 밀려 있는 만료/축출 작업을 즉시 수행한다 */
+    public void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /** null 을 돌려주면 Caffeine 은 항목을 만들지 않는다 */
+    private Member load(String memberId) {
+        try {
+            return delegate.findOptionalById(memberId).map(CachingMemberRepository::copyOf).orElse(null);
+        } catch (SQLException e) {
+            throw new LoadFailure(e);
+        }
+    }
+
+    private static Member copyOf(Member member) {
+        return new Member(member.getMemberId(), member.getMoney());
+    }
+
+    /** 로딩 함수 밖으로 SQLException 을 전달하기 위한 래퍼 */
+    private static class LoadFailure extends RuntimeException {
+
+        LoadFailure(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package spring.jdbc.repository;
+
+import spring.jdbc.domain.Member;
+
+import java.sql.SQLException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * 회원 리포지토리의 단건 CRUD 계약. 캐시 등 데코레이터가 같은 계약으로 구현체를 감싼다.
+ */
+public interface MemberRepository {
+
+    Member save(Member member) throws SQLException;
+
+    /**
+     * 회원이 없으면 빈 Optional 을 돌려준다. 미스가 잦은 조회는 예외 생성 비용이 없는 이쪽을 쓴다.
+     */
+    Optional<Member> findOptionalById(String memberId) throws SQLException;
+
+    /**
+     * @throws NoSuchElementException 회원이 없는 경우
+     */
+    default Member findById(String memberId) throws SQLException {
+        return findOptionalById(memberId)
+                .orElseThrow(() -> new NoSuchElementException("member not found memberId=" + memberId));
+    }
+
+    void update(String memberId, int money) throws SQLException;
+
+    void delete(String memberId) throws SQLException;
+
+    /**
+     * 잔액을 delta 만큼 원자적으로 더한다 (음수면 차감).
+     *
+     * @return 반영되면 true, 회원이 없거나 결과 잔액이 음수가 되면 false
+     */
+    boolean addMoney(String memberId, int delta) throws SQLException;
+
+    /**
+     * 현재 잔액이 expected 일 때만 newValue 로 바꾼다.
+     *
+     * @return 반영되면 true, 회원이 없거나 잔액이 expected 와 다르면 false
+     */
+    boolean compareAndSetMoney(String memberId, int expected, int newValue) throws SQLException;
+}
@@ -1,20 +1,106 @@
 package spring.jdbc.repository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.PreparedStatementCache;
 import spring.jdbc.domain.Member;
+import spring.jdbc.metrics.JdbcInstrumentation;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-
-import static spring.jdbc.connection.DBConnectionUtil.*;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 @Slf4j
-public class MemberRepositoryV0 {
+public class MemberRepositoryV0 implements MemberRepository {
+
+    private static final MemberRowMapper MEMBER_ROW_MAPPER = MemberRowMapper.INSTANCE;
+
+    /** saveAll/updateAll/deleteAll 에서 한 번의 executeBatch + commit 으로 보내는 행 수 */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** streamAll/forEach 에서 드라이버가 한 번에 가져오는 행 수 */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private static final String SELECT_ALL_SQL = "select " + MemberRowMapper.COLUMNS + " from member";
+
+    /* keyset 페이지: member_id(PK) 인덱스를 따라 바로 다음 위치부터 읽는다 */
+    private static final String FIRST_PAGE_SQL = SELECT_ALL_SQL + " order by member_id limit ?";
+    private static final String PAGE_AFTER_SQL = SELECT_ALL_SQL + " where member_id > ? order by member_id limit ?";
+
+    /**
+     * findByIds 의 IN 목록 크기. id 개수를 가장 가까운 버킷으로 올려 채워서
+     * statement 형태를 이 개수만큼으로 제한한다 (statement 캐시 재사용).
+     */
+    private static final int[] IN_LIST_BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128};
+    private static final String[] FIND_BY_IDS_SQL = new String[IN_LIST_BUCKETS.length];
+
+    static {
+        for (int i = 0; i < IN_LIST_BUCKETS.length; i++) {
+            String placeholders = String.join(", ", Collections.nCopies(IN_LIST_BUCKETS[i], "?"));
+            FIND_BY_IDS_SQL[i] = "select " + MemberRowMapper.COLUMNS + " from member where member_id in (" + placeholders + ")";
+        }
+    }
+
+    private final DataSource dataSource;
+    private final PreparedStatementCache statementCache;
+    private final JdbcInstrumentation instrumentation;
+
+    /**
+     * 호출마다 DriverManager로 커넥션을 새로 여는 기본 생성자.
+     */
+    public MemberRepositoryV0() {
+        this(DataSourceFactory.driverManager());
+    }
+
+    /**
+     * 커넥션 획득 방식을 주입받는다. 커넥션 풀(DataSourceFactory.pooled())을 넘기면
+     * close() 시 커넥션이 풀로 반납되어 매 호출의 연결/핸드셰이크 비용이 사라진다.
+     */
+    public MemberRepositoryV0(DataSource dataSource) {
+        this(dataSource, PreparedStatementCache.disabled());
+    }
 
+    /**
+     * 커넥션 한 번 대여 안에서 같은 SQL 을 반복하는 경로(호출자가 넘긴 커넥션을 쓰는
+     * findByIdForUpdate/update(Connection, ...), findByIds 의 청크 반복)의 statement 를 재사용한다.
+     * 호출마다 커넥션을 빌렸다 돌려주는 save/findById/update/delete 는 풀이 반납 시 statement 를 닫아
+     * 재사용할 수 없으므로 캐시를 거치지 않고, 대여를 넘는 재사용은 드라이버의 statement 캐시에 맡긴다.
+     */
+    public MemberRepositoryV0(DataSource dataSource, PreparedStatementCache statementCache) {
+        this(dataSource, statementCache, JdbcInstrumentation.NOOP);
+    }
+
+    /**
+     * 커넥션 획득, statement 실행, 결과 매핑 구간을 instrumentation 으로 계측한다.
+     */
+    public MemberRepositoryV0(DataSource dataSource, PreparedStatementCache statementCache,
+                              JdbcInstrumentation instrumentation) {
+        this.dataSource = dataSource;
+        this.statementCache = statementCache;
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
     public Member save(Member member) throws SQLException {
         String sql = "insert into member (member_id, money) values (?,?)";
 
@@ -30,7 +116,7 @@ public class MemberRepositoryV0 {
             pstmt.setString(1, member.getMemberId());
             pstmt.setDouble(2, member.getMoney());
             /* SQL 실행 */
-            pstmt.executeUpdate();
+            executeUpdate(pstmt, sql);
             return member;
         }catch (SQLException e) {
             log.error("db error :{}", e.getMessage());
@@ -40,9 +126,10 @@ public class MemberRepositoryV0 {
         }
     }
 
-    public Member findById(String memberId) throws SQLException {
+    @Override
+    public Optional<Member> findOptionalById(String memberId) throws SQLException {
 // 쿼리문 작성
-        String sql = "select * from member where member_id = ?";
+        String sql = "select " + MemberRowMapper.COLUMNS + " from member where member_id = ?";
        // 커넥션 및 쿼리 전달 객체, 실행 객체 정의
  Connection con = null;
         PreparedStatement pstmt = null;
@@ -57,16 +144,124 @@ public class MemberRepositoryV0 {
 pstmt.setString(1, memberId);
 // 쿼리 실행
 
-            rs = pstmt.executeQuery();
+            rs = executeQuery(pstmt, sql);
+            long mapStart = System.nanoTime();
             if (rs.next()) {
-                Member member = new Member();
-                member.setMemberId(rs.getString("member_id"));
-                member.setMoney(rs.getInt("money"));
-                return member;
+                Member member = MEMBER_ROW_MAPPER.mapRow(rs, 0);
+                instrumentation.resultMapped(sql, System.nanoTime() - mapStart, 1);
+                return Optional.of(member);
             } else {
-                throw new NoSuchElementException("member not found memberId=" +
-                        memberId);
+                return Optional.empty();
+            }
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            close(con, pstmt, rs);
+        }
+    }
+
+    /**
+     * 여러 회원을 IN 쿼리로 한 번에 조회한다.
+     *
+     * <p>id 를 최대 128개씩 나누어 커넥션 하나에서 조회한다. 각 청크의 IN 목록은
+     * 1, 2, 4, ... 128 중 가장 가까운 크기로 올려 마지막 id 를 반복해 채운다.</p>
+     *
+     * @return 요청한 모든 id 를 요청 순서대로 키로 가진 map. 없는 회원은 예외 대신 null 값으로 담긴다
+     */
+    public Map<String, Member> findByIds(Collection<String> memberIds) throws SQLException {
+        Map<String, Member> result = new LinkedHashMap<>();
+        for (String memberId : memberIds) {
+            result.put(memberId, null);
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+
+        List<String> ids = new ArrayList<>(result.keySet());
+        int maxChunk = IN_LIST_BUCKETS[IN_LIST_BUCKETS.length - 1];
+
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            con = getConnection();
+            for (int from = 0; from < ids.size(); from += maxChunk) {
+                List<String> chunk = ids.subList(from, Math.min(from + maxChunk, ids.size()));
+                int bucket = bucketOf(chunk.size());
+
+                String sql = FIND_BY_IDS_SQL[bucket];
+                pstmt = statementCache.prepare(con, sql);
+                for (int i = 0; i < IN_LIST_BUCKETS[bucket]; i++) {
+                    /* 버킷 크기만큼 채우지 못한 자리는 마지막 id 로 채운다 */
+                    pstmt.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                }
+                rs = executeQuery(pstmt, sql);
+                long mapStart = System.nanoTime();
+                int rowNum = 0;
+                while (rs.next()) {
+                    Member member = MEMBER_ROW_MAPPER.mapRow(rs, rowNum++);
+                    result.put(member.getMemberId(), member);
+                }
+                instrumentation.resultMapped(sql, System.nanoTime() - mapStart, rowNum);
+                rs.close();
+                rs = null;
+                statementCache.release(pstmt);
+                pstmt = null;
+            }
+            return result;
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            release(con, pstmt, rs);
+        }
+    }
+
+    private static int bucketOf(int size) {
+        for (int i = 0; i < IN_LIST_BUCKETS.length; i++) {
+            if (IN_LIST_BUCKETS[i] >= size) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("chunk too large: " + size);
+    }
+
+    /**
+     * member_id 순으로 lastMemberId 다음 회원을 최대 limit 건 조회한다 (keyset / seek 페이지네이션).
+     *
+     * <p>OFFSET 과 달리 앞 페이지를 건너뛰며 읽지 않으므로 페이지 깊이와 무관하게 비용이 limit 에 비례한다.
+     * 조회 사이에 행이 추가/삭제되어도 이미 지나간 키 뒤에서 이어 읽으므로 중복/누락이 없다.</p>
+     *
+     * @param lastMemberId 이전 페이지의 마지막 member_id, 첫 페이지는 null
+     * @return 비어 있으면 마지막 페이지를 지난 것
+     */
+    public List<Member> findPageAfter(String lastMemberId, int limit) throws SQLException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive: " + limit);
+        }
+        String sql = lastMemberId == null ? FIRST_PAGE_SQL : PAGE_AFTER_SQL;
+
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            con = getConnection();
+            pstmt = con.prepareStatement(sql);
+            int index = 1;
+            if (lastMemberId != null) {
+                pstmt.setString(index++, lastMemberId);
+            }
+            pstmt.setInt(index, limit);
+            rs = executeQuery(pstmt, sql);
+
+            long mapStart = System.nanoTime();
+            List<Member> page = new ArrayList<>(limit);
+            while (rs.next()) {
+                page.add(MEMBER_ROW_MAPPER.mapRow(rs, page.size()));
             }
+            instrumentation.resultMapped(sql, System.nanoTime() - mapStart, page.size());
+            return page;
         } catch (SQLException e) {
             log.error("db error", e);
             throw e;
@@ -75,6 +270,63 @@ pstmt.setString(1, memberId);
         }
     }
 
+    /**
+     * {@link #findPageAfter(String, int)} 로 테이블 전체를 페이지 단위로 순회한다.
+     *
+     * <p>페이지마다 커넥션을 잠깐 빌렸다 돌려주므로, 커서를 열어두는 {@link #streamAll(int)} 와 달리
+     * 페이지 사이에 오래 걸리는 처리를 해도 커넥션/트랜잭션을 붙잡지 않는다.
+     * 조회 중 SQLException 은 IllegalStateException 으로 감싸서 던진다.</p>
+     */
+    public Iterator<List<Member>> pageIterator(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        return new MemberPageIterator(pageSize);
+    }
+
+    private class MemberPageIterator implements Iterator<List<Member>> {
+
+        private final int pageSize;
+        private String lastMemberId;
+        private List<Member> next;
+        private boolean done;
+
+        MemberPageIterator(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    List<Member> page = findPageAfter(lastMemberId, pageSize);
+                    if (page.isEmpty()) {
+                        done = true;
+                    } else {
+                        next = page;
+                        lastMemberId = page.get(page.size() - 1).getMemberId();
+                        /* 덜 찬 페이지면 다음 조회는 빈 결과가 확실하므로 생략한다 */
+                        done = page.size() < pageSize;
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<Member> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Member> page = next;
+            next = null;
+            return page;
+        }
+    }
+
+    @Override
     public void update(String memberId, int money) throws SQLException {
         String sql = "update member set money = ? where member_id = ?";
 
@@ -86,8 +338,8 @@ pstmt.setString(1, memberId);
             pstmt = con.prepareStatement(sql);
             pstmt.setInt(1, money);
             pstmt.setString(2, memberId);
-            int resultSize = pstmt.executeUpdate();
-            log.info("resultSize:{}", resultSize);
+            int resultSize = executeUpdate(pstmt, sql);
+            log.debug("resultSize:{}", resultSize);
         }catch (SQLException e) {
             log.error("db error", e);
             throw e;
@@ -96,6 +348,7 @@ pstmt.setString(1, memberId);
         }
     }
 
+    @Override
     public void delete(String memberId) throws SQLException {
         String sql = "delete from member where member_id=?";
         Connection con = null;
@@ -104,7 +357,7 @@ pstmt.setString(1, memberId);
             con = getConnection();
             pstmt = con.prepareStatement(sql);
             pstmt.setString(1, memberId);
-            pstmt.executeUpdate();
+            executeUpdate(pstmt, sql);
         } catch (SQLException e) {
             log.error("db error", e);
             throw e;
@@ -112,6 +365,369 @@ pstmt.setString(1, memberId);
             close(con, pstmt, null);
         }
     }
+
+    /**
+     * 호출자가 연 트랜잭션 안에서 회원 행에 쓰기 잠금을 걸고 조회한다 (select ... for update).
+     * 커넥션은 닫지 않는다.
+     */
+    public Member findByIdForUpdate(Connection con, String memberId) throws SQLException {
+        String sql = "select " + MemberRowMapper.COLUMNS + " from member where member_id = ? for update";
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            pstmt = statementCache.prepare(con, sql);
+            pstmt.setString(1, memberId);
+            rs = executeQuery(pstmt, sql);
+            long mapStart = System.nanoTime();
+            if (rs.next()) {
+                Member member = MEMBER_ROW_MAPPER.mapRow(rs, 0);
+                instrumentation.resultMapped(sql, System.nanoTime() - mapStart, 1);
+                return member;
+            } else {
+                throw new NoSuchElementException("member not found memberId=" + memberId);
+            }
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            release(null, pstmt, rs);
+        }
+    }
+
+    /**
+     * 호출자가 연 트랜잭션 안에서 잔액을 갱신한다. 커넥션은 닫지 않는다.
+     */
+    public void update(Connection con, String memberId, int money) throws SQLException {
+        String sql = "update member set money = ? where member_id = ?";
+        PreparedStatement pstmt = null;
+        try {
+            pstmt = statementCache.prepare(con, sql);
+            pstmt.setInt(1, money);
+            pstmt.setString(2, memberId);
+            executeUpdate(pstmt, sql);
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            release(null, pstmt, null);
+        }
+    }
+
+    /**
+     * 조회 후 갱신(read-modify-write) 없이 단일 조건부 update 로 잔액을 더한다.
+     */
+    @Override
+    public boolean addMoney(String memberId, int delta) throws SQLException {
+        String sql = "update member set money = money + ? where member_id = ? and money + ? >= 0";
+        return executeConditionalUpdate(sql, pstmt -> {
+            pstmt.setInt(1, delta);
+            pstmt.setString(2, memberId);
+            pstmt.setInt(3, delta);
+        });
+    }
+
+    @Override
+    public boolean compareAndSetMoney(String memberId, int expected, int newValue) throws SQLException {
+        String sql = "update member set money = ? where member_id = ? and money = ?";
+        return executeConditionalUpdate(sql, pstmt -> {
+            pstmt.setInt(1, newValue);
+            pstmt.setString(2, memberId);
+            pstmt.setInt(3, expected);
+        });
+    }
+
+    private boolean executeConditionalUpdate(String sql, PreparedStatementSetter setter) throws SQLException {
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        try {
+            con = getConnection();
+            pstmt = con.prepareStatement(sql);
+            setter.setValues(pstmt);
+            return executeUpdate(pstmt, sql) == 1;
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            close(con, pstmt, null);
+        }
+    }
+
+    public int[] saveAll(Collection<Member> members) throws SQLException {
+        return saveAll(members, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 여러 회원을 JDBC 배치로 저장한다.
+     *
+     * <p>커넥션 하나에서 batchSize 건씩 addBatch → executeBatch → commit 한다.
+     * 중간 청크에서 실패하면 해당 청크만 롤백되고, 이미 커밋된 앞 청크는 유지된다.</p>
+     *
+     * @return 입력 순서와 같은 순서의 행별 update count
+     */
+    public int[] saveAll(Collection<Member> members, int batchSize) throws SQLException {
+        String sql = "insert into member (member_id, money) values (?,?)";
+        return executeBatch(sql, members, batchSize, (pstmt, member) -> {
+            pstmt.setString(1, member.getMemberId());
+            pstmt.setInt(2, member.getMoney());
+        });
+    }
+
+    public int[] updateAll(Map<String, Integer> moneyByMemberId) throws SQLException {
+        return updateAll(moneyByMemberId, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * memberId → money 를 JDBC 배치로 갱신한다. 반환 순서는 map 의 순회 순서를 따른다.
+     */
+    public int[] updateAll(Map<String, Integer> moneyByMemberId, int batchSize) throws SQLException {
+        String sql = "update member set money = ? where member_id = ?";
+        return executeBatch(sql, moneyByMemberId.entrySet(), batchSize, (pstmt, entry) -> {
+            pstmt.setInt(1, entry.getValue());
+            pstmt.setString(2, entry.getKey());
+        });
+    }
+
+    public int[] deleteAll(Collection<String> memberIds) throws SQLException {
+        return deleteAll(memberIds, DEFAULT_BATCH_SIZE);
+    }
+
+    public int[] deleteAll(Collection<String> memberIds, int batchSize) throws SQLException {
+        String sql = "delete from member where member_id=?";
+        return executeBatch(sql, memberIds, batchSize, (pstmt, memberId) -> pstmt.setString(1, memberId));
+    }
+
+    /**
+     * member 테이블 전체를 forward-only, read-only 커서로 읽는 스트림.
+     *
+     * <p>행을 fetchSize 단위로 가져오므로 테이블 크기와 무관하게 힙 사용량이 일정하다.
+     * 커넥션은 스트림이 닫힐 때 반납되므로 반드시 try-with-resources 로 사용한다.</p>
+     *
+     * <pre>
+     * try (Stream&lt;Member&gt; members = repository.streamAll(1000)) {
+     *     members.forEach(...);
+     * }
+     * </pre>
+     */
+    public Stream<Member> streamAll(int fetchSize) throws SQLException {
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            con = getConnection();
+            pstmt = openCursor(con, fetchSize);
+            rs = executeQuery(pstmt, SELECT_ALL_SQL);
+        } catch (SQLException e) {
+            log.error("db error", e);
+            closeCursor(con, pstmt, rs);
+            throw e;
+        }
+
+        Connection cursorCon = con;
+        PreparedStatement cursorPstmt = pstmt;
+        MemberCursor cursor = new MemberCursor(rs);
+        return StreamSupport.stream(cursor, false)
+                .onClose(() -> {
+                    instrumentation.resultMapped(SELECT_ALL_SQL, System.nanoTime() - cursor.openedAt, cursor.rowNum);
+                    closeCursor(cursorCon, cursorPstmt, cursor.rs);
+                });
+    }
+
+    /**
+     * ResultSet 을 한 행씩 전진시키는 spliterator.
+     */
+    private static class MemberCursor extends Spliterators.AbstractSpliterator<Member> {
+
+        private final ResultSet rs;
+        private final long openedAt = System.nanoTime();
+        private int rowNum;
+
+        MemberCursor(ResultSet rs) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rs = rs;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Member> action) {
+            try {
+                if (!rs.next()) {
+                    return false;
+                }
+                action.accept(MEMBER_ROW_MAPPER.mapRow(rs, rowNum++));
+                return true;
+            } catch (SQLException e) {
+                log.error("db error", e);
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public long forEach(RowConsumer<Member> consumer) throws SQLException {
+        return forEach(DEFAULT_FETCH_SIZE, consumer);
+    }
+
+    /**
+     * {@link #streamAll(int)} 의 콜백 버전. 순회가 끝나면 커넥션을 바로 반납한다.
+     *
+     * @return 처리한 행 수
+     */
+    public long forEach(int fetchSize, RowConsumer<Member> consumer) throws SQLException {
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            con = getConnection();
+            pstmt = openCursor(con, fetchSize);
+            rs = executeQuery(pstmt, SELECT_ALL_SQL);
+            long mapStart = System.nanoTime();
+            int rowNum = 0;
+            while (rs.next()) {
+                consumer.accept(MEMBER_ROW_MAPPER.mapRow(rs, rowNum++));
+            }
+            instrumentation.resultMapped(SELECT_ALL_SQL, System.nanoTime() - mapStart, rowNum);
+            return rowNum;
+        } catch (SQLException e) {
+            log.error("db error", e);
+            throw e;
+        } finally {
+            closeCursor(con, pstmt, rs);
+        }
+    }
+
+    private PreparedStatement openCursor(Connection con, int fetchSize) throws SQLException {
+        /* 드라이버에 따라(PostgreSQL 등) autocommit 이 꺼져 있어야 fetchSize 단위 커서가 동작한다 */
+        con.setAutoCommit(false);
+        con.setReadOnly(true);
+        PreparedStatement pstmt = con.prepareStatement(SELECT_ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        pstmt.setFetchSize(fetchSize);
+        return pstmt;
+    }
+
+    private void closeCursor(Connection con, PreparedStatement pstmt, ResultSet rs) {
+        close(null, pstmt, rs);
+        if (con != null) {
+            rollback(con);
+            try {
+                con.setReadOnly(false);
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+            restoreAutoCommit(con, true);
+        }
+        close(con, null, null);
+    }
+
+    private <T> int[] executeBatch(String sql, Collection<T> items, int batchSize,
+                                   ParameterizedPreparedStatementSetter<T> setter) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        int[] updateCounts = new int[items.size()];
+        if (items.isEmpty()) {
+            return updateCounts;
+        }
+
+        Connection con = null;
+        PreparedStatement pstmt = null;
+        boolean autoCommit = true;
+
+        try {
+            con = getConnection();
+            autoCommit = con.getAutoCommit();
+            /* 청크 단위 트랜잭션 */
+            con.setAutoCommit(false);
+            pstmt = con.prepareStatement(sql);
+
+            int done = 0;
+            int pending = 0;
+            for (T item : items) {
+                setter.setValues(pstmt, item);
+                pstmt.addBatch();
+                if (++pending == batchSize) {
+                    done = flushBatch(con, pstmt, sql, updateCounts, done);
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                flushBatch(con, pstmt, sql, updateCounts, done);
+            }
+            return updateCounts;
+        } catch (SQLException e) {
+            log.error("db error", e);
+            rollback(con);
+            throw e;
+        } finally {
+            restoreAutoCommit(con, autoCommit);
+            close(con, pstmt, null);
+        }
+    }
+
+    private int flushBatch(Connection con, PreparedStatement pstmt, String sql,
+                           int[] updateCounts, int offset) throws SQLException {
+        long start = System.nanoTime();
+        int[] chunk = pstmt.executeBatch();
+        con.commit();
+        instrumentation.statementExecuted(sql, System.nanoTime() - start, Arrays.stream(chunk).filter(count -> count > 0).sum());
+        System.arraycopy(chunk, 0, updateCounts, offset, chunk.length);
+        return offset + chunk.length;
+    }
+
+    private void rollback(Connection con) {
+        if (con != null) {
+            try {
+                con.rollback();
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+    }
+
+    private void restoreAutoCommit(Connection con, boolean autoCommit) {
+        if (con != null) {
+            try {
+                con.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection con = dataSource.getConnection();
+        instrumentation.connectionAcquired(System.nanoTime() - start);
+        log.debug("get connection={}, class={}", con, con.getClass());
+        return con;
+    }
+
+    private int executeUpdate(PreparedStatement pstmt, String sql) throws SQLException {
+        long start = System.nanoTime();
+        int updateCount = pstmt.executeUpdate();
+        instrumentation.statementExecuted(sql, System.nanoTime() - start, updateCount);
+        return updateCount;
+    }
+
+    private ResultSet executeQuery(PreparedStatement pstmt, String sql) throws SQLException {
+        long start = System.nanoTime();
+        ResultSet rs = pstmt.executeQuery();
+        instrumentation.statementExecuted(sql, System.nanoTime() - start, JdbcInstrumentation.NO_UPDATE_COUNT);
+        return rs;
+    }
+
+    /**
+     * statementCache 에서 받은 statement 용 close. statement는 캐시로 돌려주고 나머지는 닫는다.
+     */
+    private void release(Connection conn, PreparedStatement pstmt, ResultSet rs) {
+        close(null, null, rs);
+        if (pstmt != null) {
+            try {
+                statementCache.release(pstmt);
+            } catch (SQLException e) {
+                log.info("error", e);
+            }
+        }
+        close(conn, null, null);
+    }
+
     private void close(Connection conn, PreparedStatement pstmt, ResultSet rs) {
 
         if(rs != null) {
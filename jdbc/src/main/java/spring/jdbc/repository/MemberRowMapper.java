@@ -0,0 +1,47 @@
+package spring.jdbc.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+import spring.jdbc.domain.Member;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 컬럼 인덱스로 {@link Member}를 매핑하는 RowMapper.
+ *
+ * <p>컬럼 이름으로 읽으면 행마다 드라이버가 이름 → 인덱스 조회를 반복한다.
+ * 인덱스는 statement 형태(select 목록)마다 한 번만 정해지면 되므로 생성 시점에 고정한다.</p>
+ *
+ * <ul>
+ *   <li>{@link #INSTANCE} - select 목록이 {@link #COLUMNS}로 시작하는 쿼리용 (member_id=1, money=2)</li>
+ *   <li>{@link #resolve(ResultSet)} - 그 외 select 목록에서 인덱스를 한 번 찾아 만든다</li>
+ * </ul>
+ */
+public class MemberRowMapper implements RowMapper<Member> {
+
+    /** 리포지토리 조회 쿼리가 사용하는 명시적 select 목록 */
+    public static final String COLUMNS = "member_id, money";
+
+    public static final MemberRowMapper INSTANCE = new MemberRowMapper(1, 2);
+
+    private final int memberIdIndex;
+    private final int moneyIndex;
+
+    private MemberRowMapper(int memberIdIndex, int moneyIndex) {
+        this.memberIdIndex = memberIdIndex;
+        this.moneyIndex = moneyIndex;
+    }
+
+    /**
+     * ResultSet 의 메타데이터에서 컬럼 인덱스를 찾아 고정한 매퍼를 만든다.
+     * 같은 쿼리를 반복 실행한다면 반환된 매퍼를 재사용한다.
+     */
+    public static MemberRowMapper resolve(ResultSet rs) throws SQLException {
+        return new MemberRowMapper(rs.findColumn("member_id"), rs.findColumn("money"));
+    }
+
+    @Override
+    public Member mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Member(rs.getString(memberIdIndex), rs.getInt(moneyIndex));
+    }
+}
@@ -0,0 +1,106 @@
+package spring.jdbc.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import spring.jdbc.domain.Member;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "없는 회원" 조회 결과를 잠시 기억하는 {@link MemberRepository} 데코레이터 (negative cache).
+ *
+ * <ul>
+ *   <li>미스가 난 id 만 최대 건수 + 쓰기 후 TTL 로 보관하고, 그 사이 같은 id 조회는 DB 에 가지 않는다</li>
+ *   <li>save 는 DB 반영 후 해당 id 를 지운다. 조회와 save 가 겹쳐도 save 이후에 미스가 기록되지 않도록
+ *       save 세대 번호로 한 번 더 확인한다</li>
+ *   <li>update/delete/addMoney/compareAndSetMoney 는 없는 회원을 만들지 않으므로 그대로 위임한다</li>
+ * </ul>
+ *
+ * <p>히트 쪽 캐시가 필요하면 {@link CachingMemberRepository} 와 겹쳐 쓴다.</p>
+ */
+public class NegativeCachingMemberRepository implements MemberRepository {
+
+    private final MemberRepository delegate;
+    private final Cache<String, Boolean> misses;
+    private final AtomicLong saveGeneration = new AtomicLong();
+
+    public NegativeCachingMemberRepository(MemberRepository delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Member save(Member member) throws SQLException {
+        try {
+            return delegate.save(member);
+        } finally {
+            saveGeneration.incrementAndGet();
+            misses.invalidate(member.getMemberId());
+        }
+    }
+
+    @Override
+    public Optional<Member> findOptionalById(String memberId) throws SQLException {
+        if (misses.getIfPresent(memberId) != null) {
+            return Optional.empty();
+        }
+        long generation = saveGeneration.get();
+        Optional<Member> member = delegate.findOptionalById(memberId);
+        if (member.isEmpty()) {
+            misses.put(memberId, Boolean.TRUE);
+            if (saveGeneration.get() != generation) {
+                // 조회 도중 save 가 끝났을 수 있다: 방금 기록한 미스를 믿지 않는다
+                misses.invalidate(memberId);
+            }
+        }
+        return member;
+    }
+
+    @Override
+    public void update(String memberId, int money) throws SQLException {
+        delegate.update(memberId, money);
+    }
+
+    @Override
+    public void delete(String memberId) throws SQLException {
+        delegate.delete(memberId);
+    }
+
+    @Override
+    public boolean addMoney(String memberId, int delta) throws SQLException {
+        return delegate.addMoney(memberId, delta);
+    }
+
+    @Override
+    public boolean compareAndSetMoney(String memberId, int expected, int newValue) throws SQLException {
+        return delegate.compareAndSetMoney(memberId, expected, newValue);
+    }
+
+    /** 다른 경로(다른 인스턴스, 직접 SQL)로 회원이 생겼을 때 호출한다 */
+    public void invalidate(String memberId) {
+        misses.invalidate(memberId);
+    }
+
+    public void invalidateAll() {
+        misses.invalidateAll();
+    }
+
+    /**
+     * hitCount() 가 DB 조회를 건너뛴 미스 횟수다.
+     */
+    public CacheStats stats() {
+        return misses.stats();
+    }
+
+    public long estimatedSize() {
+        return misses.estimatedSize();
+    }
+}
@@ -0,0 +1,12 @@
+package spring.jdbc.repository;
+
+import java.sql.SQLException;
+
+/**
+ * 커서를 순회하며 한 행씩 처리하는 콜백.
+ */
+@FunctionalInterface
+public interface RowConsumer<T> {
+
+    void accept(T row) throws SQLException;
+}
@@ -0,0 +1,261 @@
+package spring.jdbc.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.domain.Member;
+import spring.jdbc.metrics.LatencyHistogram;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 잔액 update 를 메모리에 모았다가 배치로 반영하는 write-behind {@link MemberRepository} 데코레이터.
+ *
+ * <ul>
+ *   <li>같은 회원에 대한 update 는 마지막 값 하나로 합쳐진다</li>
+ *   <li>대기 건수가 {@code maxPending} 에 도달하거나 {@code flushInterval} 이 지나면 updateAll 배치로 반영한다</li>
+ *   <li>findById 는 아직 반영되지 않은 값을 먼저 돌려준다 (read-your-writes). 반영 중인 배치도 쓰기가 끝날 때까지 보인다</li>
+ *   <li>save/delete/addMoney/compareAndSetMoney 는 해당 회원의 대기 값을 먼저 처리한 뒤 위임한다</li>
+ *   <li>close() 또는 JVM 종료 시 남은 update 를 반영한다. close() 이후의 update 는 거부한다</li>
+ * </ul>
+ *
+ * <p>반영 전 프로세스가 비정상 종료되면 대기 중인 update 는 유실된다. 최종 값만 의미 있는 잔액 갱신에만 사용한다.</p>
+ */
+@Slf4j
+public class WriteBehindMemberRepository implements MemberRepository, AutoCloseable {
+
+    private final MemberRepositoryV0 delegate;
+    private final int maxPending;
+
+    private final Map<String, Integer> pending = new ConcurrentHashMap<>();
+    /** 대기 목록에서 빠져 DB 에 쓰는 중인 배치. 쓰기가 끝날 때까지 조회에 보이도록 둔다 */
+    private volatile Map<String, Integer> inFlight = Collections.emptyMap();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler;
+    private final Thread shutdownHook;
+    /** update 의 closed 확인과 pending 기록을 close() 와 배타적으로 만든다 (update 끼리는 동시 실행) */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+    /** 크기 초과로 예약한 flush 가 끝나기 전에는 다시 예약하지 않는다 */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final LongAdder updatesReceived = new LongAdder();
+    private final LongAdder rowsFlushed = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+
+    public WriteBehindMemberRepository(MemberRepositoryV0 delegate, int maxPending, Duration flushInterval) {
+        this.delegate = delegate;
+        this.maxPending = maxPending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+
+        this.shutdownHook = new Thread(this::close, "member-write-behind-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public void update(String memberId, int money) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("write-behind repository is closed");
+            }
+            pending.put(memberId, money);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        updatesReceived.increment();
+        if (pending.size() >= maxPending && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::scheduledFlush);
+            } catch (RejectedExecutionException e) {
+                // close() 진행 중: 남은 값은 close() 의 마지막 flush 가 반영한다
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Member> findOptionalById(String memberId) throws SQLException {
+        /* 대기 값 → 반영 중인 배치 → DB 순으로 본다. 두 곳 모두 없으면 그 값은 이미 DB 에 쓰였다 */
+        Integer money = pending.get(memberId);
+        if (money == null) {
+            money = inFlight.get(memberId);
+        }
+        Optional<Member> member = delegate.findOptionalById(memberId);
+        if (money != null) {
+            int unflushed = money;
+            member.ifPresent(m -> m.setMoney(unflushed));
+        }
+        return member;
+    }
+
+    @Override
+    public Member save(Member member) throws SQLException {
+        flush(member.getMemberId());
+        return delegate.save(member);
+    }
+
+    @Override
+    public void delete(String memberId) throws SQLException {
+        synchronized (flushLock) {
+            pending.remove(memberId);
+            delegate.delete(memberId);
+        }
+    }
+
+    @Override
+    public boolean addMoney(String memberId, int delta) throws SQLException {
+        flush(memberId);
+        return delegate.addMoney(memberId, delta);
+    }
+
+    @Override
+    public boolean compareAndSetMoney(String memberId, int expected, int newValue) throws SQLException {
+        flush(memberId);
+        return delegate.compareAndSetMoney(memberId, expected, newValue);
+    }
+
+    /**
+     * 대기 중인 update 를 모두 반영한다. 반영 순서가 뒤바뀌지 않도록 flush 는 한 번에 하나만 실행된다.
+     *
+     * @return 반영한 회원 수
+     */
+    public int flush() throws SQLException {
+        synchronized (flushLock) {
+            return drain(new LinkedHashMap<>(pending));
+        }
+    }
+
+    /** 대기 중인 update 수 */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    public long getUpdatesReceived() {
+        return updatesReceived.sum();
+    }
+
+    public long getRowsFlushed() {
+        return rowsFlushed.sum();
+    }
+
+    public long getFlushFailures() {
+        return flushFailures.sum();
+    }
+
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            /* 이 시점 이후의 update 는 거부되고, 이전 update 는 모두 pending 에 들어가 있다 */
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // 이미 JVM 종료 중
+            }
+        }
+        log.info("write-behind closed received={}, flushed={}, remaining={}",
+                getUpdatesReceived(), getRowsFlushed(), getQueueDepth());
+    }
+
+    private void flush(String memberId) throws SQLException {
+        synchronized (flushLock) {
+            Integer money = pending.get(memberId);
+            if (money != null) {
+                Map<String, Integer> batch = new LinkedHashMap<>();
+                batch.put(memberId, money);
+                drain(batch);
+            }
+        }
+    }
+
+    /**
+     * batch 를 반영 중 배치로 먼저 공개한 뒤 pending 에서 빼고 쓴다. flushLock 안에서만 호출한다.
+     * 그 사이 더 새로운 값이 들어온 회원은 pending 에 남아 다음 flush 에서 반영된다.
+     */
+    private int drain(Map<String, Integer> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        inFlight = batch;
+        batch.forEach(pending::remove);
+        try {
+            return write(batch);
+        } finally {
+            inFlight = Collections.emptyMap();
+        }
+    }
+
+    private int write(Map<String, Integer> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.updateAll(batch);
+            rowsFlushed.add(batch.size());
+            return batch.size();
+        } catch (SQLException | RuntimeException e) {
+            flushFailures.increment();
+            /* 실패한 값은 그 사이 더 새로운 값이 들어오지 않았을 때만 되돌려 놓는다 */
+            batch.forEach(pending::putIfAbsent);
+            throw e;
+        } finally {
+            flushLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flushQuietly();
+        } finally {
+            flushScheduled.set(false);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException | RuntimeException e) {
+            log.error("write-behind flush failed, queueDepth={}", getQueueDepth(), e);
+        }
+    }
+}
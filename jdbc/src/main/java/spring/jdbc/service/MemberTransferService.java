@@ -0,0 +1,93 @@
+package spring.jdbc.service;
+
+import lombok.extern.slf4j.Slf4j;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 회원 간 계좌이체 서비스.
+ *
+ * <p>출금과 입금을 하나의 커넥션, 하나의 트랜잭션에서 실행한다. 두 회원 행은
+ * {@code select ... for update}로 잠그며, 서로 반대 방향 이체가 교착 상태에 빠지지 않도록
+ * 항상 member_id 오름차순으로 잠근다.</p>
+ */
+@Slf4j
+public class MemberTransferService {
+
+    private final DataSource dataSource;
+    private final MemberRepositoryV0 memberRepository;
+
+    public MemberTransferService(DataSource dataSource, MemberRepositoryV0 memberRepository) {
+        this.dataSource = dataSource;
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * @throws IllegalArgumentException 같은 회원끼리 이체하거나 금액이 양수가 아닌 경우
+     * @throws IllegalStateException    출금 회원의 잔액이 부족한 경우 (롤백됨)
+     * @throws java.util.NoSuchElementException 회원이 없는 경우 (롤백됨)
+     */
+    public void accountTransfer(String fromId, String toId, int money) throws SQLException {
+        if (fromId.equals(toId)) {
+            throw new IllegalArgumentException("cannot transfer to the same member: " + fromId);
+        }
+        if (money <= 0) {
+            throw new IllegalArgumentException("money must be positive: " + money);
+        }
+
+        Connection con = dataSource.getConnection();
+        try {
+            /* 트랜잭션 시작 */
+            con.setAutoCommit(false);
+            bizLogic(con, fromId, toId, money);
+            con.commit();
+        } catch (SQLException | RuntimeException e) {
+            rollback(con, e);
+            throw e;
+        } finally {
+            release(con);
+        }
+    }
+
+    private void bizLogic(Connection con, String fromId, String toId, int money) throws SQLException {
+        /* 잠금 순서 고정: member_id 가 작은 쪽부터 */
+        boolean fromFirst = fromId.compareTo(toId) < 0;
+        Member first = memberRepository.findByIdForUpdate(con, fromFirst ? fromId : toId);
+        Member second = memberRepository.findByIdForUpdate(con, fromFirst ? toId : fromId);
+        Member fromMember = fromFirst ? first : second;
+        Member toMember = fromFirst ? second : first;
+
+        if (fromMember.getMoney() < money) {
+            throw new IllegalStateException("잔액 부족 memberId=" + fromId + ", money=" + fromMember.getMoney());
+        }
+        memberRepository.update(con, fromId, fromMember.getMoney() - money);
+        memberRepository.update(con, toId, toMember.getMoney() + money);
+    }
+
+    /** 롤백 실패가 원래 예외를 가리지 않도록 suppressed 로 붙인다 */
+    private static void rollback(Connection con, Exception cause) {
+        try {
+            con.rollback();
+        } catch (SQLException | RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void release(Connection con) {
+        try {
+            /* 풀에 돌아갈 때 기본값(autocommit)으로 */
+            con.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.info("error", e);
+        }
+        try {
+            con.close();
+        } catch (SQLException e) {
+            log.info("error", e);
+        }
+    }
+}
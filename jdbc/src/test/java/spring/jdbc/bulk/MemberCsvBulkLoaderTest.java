@@ -0,0 +1,113 @@
+package spring.jdbc.bulk;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberCsvBulkLoaderTest {
+
+    static final int ROWS = 10_000;
+
+    @TempDir
+    Path tempDir;
+
+    HikariDataSource source;
+    HikariDataSource target;
+    MemberRepositoryV0 sourceRepository;
+    MemberRepositoryV0 targetRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        source = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        target = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(source);
+        MemberTestDatabase.createMemberTable(target);
+        sourceRepository = new MemberRepositoryV0(source);
+        targetRepository = new MemberRepositoryV0(target);
+
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("bulk" + i, i));
+        }
+        sourceRepository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void exportAndImport() throws IOException, SQLException {
+        Path csv = tempDir.resolve("members.csv");
+        assertEquals(ROWS, new MemberCsvBulkLoader(source, sourceRepository).exportTo(csv));
+
+        BulkLoadResult result = new MemberCsvBulkLoader(target, targetRepository).importFrom(csv, 1_000);
+
+        assertEquals(0, result.getResumedFrom());
+        assertEquals(ROWS, result.getRowsLoaded());
+        assertEquals(totalMoney(sourceRepository), totalMoney(targetRepository));
+        assertFalse(Files.exists(MemberCsvBulkLoader.checkpointOf(csv)));
+    }
+
+    @Test
+    void resumeFromCheckpoint() throws IOException, SQLException {
+        Path csv = tempDir.resolve("members.csv");
+        new MemberCsvBulkLoader(source, sourceRepository).exportTo(csv);
+        // 앞의 6000행까지 커밋된 뒤 중단된 상황
+        Files.writeString(MemberCsvBulkLoader.checkpointOf(csv), "6000");
+
+        BulkLoadResult result = new MemberCsvBulkLoader(target, targetRepository).importFrom(csv, 1_000);
+
+        assertEquals(6000, result.getResumedFrom());
+        assertEquals(ROWS - 6000, result.getRowsLoaded());
+        try (Stream<Member> members = targetRepository.streamAll(1000)) {
+            assertEquals(ROWS - 6000, members.count());
+        }
+    }
+
+    @Test
+    void importIsIdempotent() throws IOException, SQLException {
+        Path csv = tempDir.resolve("members.csv");
+        new MemberCsvBulkLoader(source, sourceRepository).exportTo(csv);
+        MemberCsvBulkLoader loader = new MemberCsvBulkLoader(target, targetRepository);
+
+        loader.importFrom(csv, 700);
+        loader.importFrom(csv, 700);
+
+        assertEquals(totalMoney(sourceRepository), totalMoney(targetRepository));
+    }
+
+    @Test
+    void mergeWithCsvRead() throws IOException, SQLException {
+        Path csv = tempDir.resolve("members.csv");
+        new MemberCsvBulkLoader(source, sourceRepository).exportTo(csv);
+
+        assertEquals(ROWS, new MemberCsvBulkLoader(target, targetRepository).mergeWithCsvRead(csv));
+        assertEquals(totalMoney(sourceRepository), totalMoney(targetRepository));
+    }
+
+    private static long totalMoney(MemberRepositoryV0 repository) throws SQLException {
+        try (Stream<Member> members = repository.streamAll(1000)) {
+            return members.mapToLong(Member::getMoney).sum();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package spring.jdbc.connection;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceFactoryTest {
+
+    HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMinIdle(1);
+        properties.setMaxPoolSize(1);
+        properties.setAcquireTimeoutMs(300);
+        properties.setValidationTimeoutMs(250);
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), properties);
+        MemberTestDatabase.createMemberTable(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void physicalConnectionIsReused() throws SQLException {
+        Connection physical1;
+        try (Connection con = dataSource.getConnection()) {
+            physical1 = con.unwrap(Connection.class);
+        }
+        Connection physical2;
+        try (Connection con = dataSource.getConnection()) {
+            physical2 = con.unwrap(Connection.class);
+        }
+        assertSame(physical1, physical2);
+    }
+
+    @Test
+    void acquireTimeout() throws SQLException {
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        }
+    }
+
+    @Test
+    void pooledRepositoryCrud() throws SQLException {
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource);
+        Member member = new Member("pooled", 10000);
+
+        repository.save(member);
+        assertEquals(member, repository.findById("pooled"));
+
+        repository.update("pooled", 20000);
+        assertEquals(20000, repository.findById("pooled").getMoney());
+
+        repository.delete("pooled");
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+}
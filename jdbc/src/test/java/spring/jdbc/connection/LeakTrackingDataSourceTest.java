@@ -0,0 +1,72 @@
+package spring.jdbc.connection;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeakTrackingDataSourceTest {
+
+    HikariDataSource pool;
+    LeakTrackingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(pool);
+        dataSource = new LeakTrackingDataSource(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void reportsBorrowerStack() throws SQLException {
+        Connection held = dataSource.getConnection();
+        try {
+            List<LeakTrackingDataSource.Borrow> leaks = dataSource.findLeaks(Duration.ZERO);
+            assertEquals(1, leaks.size());
+            assertEquals(Thread.currentThread().getName(), leaks.get(0).getThreadName());
+            assertEquals("reportsBorrowerStack", leaks.get(0).getStackTrace()[0].getMethodName());
+            assertTrue(dataSource.leakReport(Duration.ZERO).contains("reportsBorrowerStack"));
+
+            assertTrue(dataSource.findLeaks(Duration.ofMinutes(1)).isEmpty());
+        } finally {
+            held.close();
+        }
+        assertEquals(0, dataSource.getBorrowedCount());
+        assertEquals("", dataSource.leakReport(Duration.ZERO));
+    }
+
+    @Test
+    void repositoryReleasesConnections() throws SQLException {
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource);
+        repository.save(new Member("tracked", 1000));
+        repository.update("tracked", 2000);
+        assertEquals(2000, repository.findById("tracked").getMoney());
+
+        assertEquals(0, dataSource.getBorrowedCount());
+    }
+
+    @Test
+    void unwrapReachesPhysicalConnection() throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            Connection physical = con.unwrap(Connection.class);
+            assertNotSame(con, physical);
+            assertFalse(Proxy.isProxyClass(physical.getClass()));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package spring.jdbc.connection;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedStatementCacheTest {
+
+    HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMinIdle(1);
+        properties.setMaxPoolSize(1);
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), properties);
+        MemberTestDatabase.createMemberTable(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void reuseWithinBorrow() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        String sql = "select money from member where member_id = ?";
+
+        try (Connection con = dataSource.getConnection()) {
+            PreparedStatement first = cache.prepare(con, sql);
+            cache.release(first);
+            assertSame(first, cache.prepare(con, sql));
+        }
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void statementsAreClosedWhenConnectionIsReturned() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+        String sql = "select money from member where member_id = ?";
+
+        PreparedStatement first;
+        try (Connection con = dataSource.getConnection()) {
+            first = cache.prepare(con, sql);
+            cache.release(first);
+        }
+        assertTrue(first.isClosed(), "풀이 반납 시 추적 중인 statement 를 닫아야 한다");
+
+        try (Connection con = dataSource.getConnection()) {
+            assertNotSame(first, cache.prepare(con, sql));
+        }
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void uncommittedWriteIsRolledBackOnReturn() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(4);
+
+        try (Connection con = dataSource.getConnection()) {
+            con.setAutoCommit(false);
+            PreparedStatement pstmt = cache.prepare(con, "insert into member (member_id, money) values (?, ?)");
+            pstmt.setString(1, "uncommitted");
+            pstmt.setInt(2, 1000);
+            pstmt.executeUpdate();
+            cache.release(pstmt);
+            // commit 없이 반납
+        }
+
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement pstmt = con.prepareStatement("select count(*) from member")) {
+            ResultSet rs = pstmt.executeQuery();
+            rs.next();
+            assertEquals(0, rs.getInt(1), "캐시된 statement 로 쓴 변경도 반납 시 rollback 되어야 한다");
+        }
+    }
+
+    @Test
+    void lruEviction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        try (Connection con = dataSource.getConnection()) {
+            PreparedStatement a = cache.prepare(con, "select 1");
+            cache.prepare(con, "select 2");
+            cache.prepare(con, "select 1");
+            cache.prepare(con, "select 3");
+
+            assertEquals(1, cache.getEvictions());
+            assertFalse(a.isClosed(), "최근 사용한 select 1 은 남아있어야 한다");
+            assertSame(a, cache.prepare(con, "select 1"));
+        }
+    }
+
+    @Test
+    void disabledClosesOnRelease() throws SQLException {
+        PreparedStatementCache cache = PreparedStatementCache.disabled();
+        try (Connection con = dataSource.getConnection()) {
+            PreparedStatement pstmt = cache.prepare(con, "select 1");
+            cache.release(pstmt);
+            assertTrue(pstmt.isClosed());
+        }
+    }
+
+    @Test
+    void repositoryHitsCacheWithinTransaction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(16);
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource, cache);
+        repository.save(new Member("cached", 1000));
+
+        try (Connection con = dataSource.getConnection()) {
+            con.setAutoCommit(false);
+            for (int i = 0; i < 10; i++) {
+                repository.update(con, "cached", 1000 + i);
+            }
+            con.commit();
+        }
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(9, cache.getHits());
+        assertEquals(1009, repository.findById("cached").getMoney());
+    }
+
+    @Test
+    void singleCallPathsBypassCache() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache(16);
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource, cache);
+
+        /* 호출마다 커넥션을 반납하므로 재사용할 수 없는 경로는 캐시에 기록되지 않는다 */
+        repository.save(new Member("single", 1000));
+        repository.update("single", 2000);
+        assertEquals(2000, repository.findById("single").getMoney());
+        repository.delete("single");
+
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+}
@@ -0,0 +1,113 @@
+package spring.jdbc.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.PreparedStatementCache;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class InMemoryJdbcMetricsTest {
+
+    HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxNanos());
+        // 구간 상한 근사: 실제 값 이상, 2배 미만
+        long p50 = histogram.percentileNanos(0.5);
+        assertTrue(p50 >= 50_000 && p50 < 100_000, "p50=" + p50);
+        assertEquals(100_000, histogram.percentileNanos(0.99));
+    }
+
+    @Test
+    void repositoryIsInstrumented() throws SQLException {
+        InMemoryJdbcMetrics metrics = new InMemoryJdbcMetrics(1, TimeUnit.HOURS);
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource, new PreparedStatementCache(16), metrics);
+
+        repository.save(new Member("metrics", 1000));
+        for (int i = 0; i < 10; i++) {
+            repository.findById("metrics");
+        }
+        repository.update("metrics", 2000);
+        repository.delete("metrics");
+
+        assertEquals(13, metrics.getConnectionAcquire().getCount());
+        InMemoryJdbcMetrics.SqlMetrics find = metrics.getSqlMetrics().entrySet().stream()
+                .filter(e -> e.getKey().startsWith("select"))
+                .findFirst().orElseThrow().getValue();
+        assertEquals(10, find.getExecute().getCount());
+        assertEquals(10, find.getMapping().getCount());
+        assertEquals(10, find.getRowCount());
+        assertTrue(metrics.getSlowQueries().isEmpty());
+
+        log.info("\n{}", metrics.dump());
+    }
+
+    @Test
+    void resetClearsEverything() throws SQLException {
+        InMemoryJdbcMetrics metrics = new InMemoryJdbcMetrics(0, TimeUnit.NANOSECONDS);
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource, PreparedStatementCache.disabled(), metrics);
+        repository.save(new Member("warmup", 1000));
+        repository.findById("warmup");
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getConnectionAcquire().getCount());
+        assertEquals(0, metrics.getConnectionAcquire().getMaxNanos());
+        assertEquals(0, metrics.getConnectionAcquire().percentileNanos(0.99));
+        assertTrue(metrics.getSqlMetrics().isEmpty());
+        assertTrue(metrics.getSlowQueries().isEmpty());
+
+        repository.findById("warmup");
+        assertEquals(1, metrics.getConnectionAcquire().getCount());
+    }
+
+    @Test
+    void slowQueries() throws SQLException {
+        InMemoryJdbcMetrics metrics = new InMemoryJdbcMetrics(0, TimeUnit.NANOSECONDS, 3);
+        MemberRepositoryV0 repository = new MemberRepositoryV0(dataSource, PreparedStatementCache.disabled(), metrics);
+
+        repository.save(new Member("slow", 1000));
+        for (int i = 0; i < 5; i++) {
+            repository.addMoney("slow", 1);
+        }
+
+        List<String> sqls = metrics.getSlowQueries().stream()
+                .map(InMemoryJdbcMetrics.SlowQuery::getSql)
+                .collect(Collectors.toList());
+        assertEquals(3, sqls.size(), "최근 3건만 보관");
+        assertTrue(sqls.stream().allMatch(sql -> sql.contains("money = money + ?")));
+        assertTrue(metrics.dump().contains("slow queries"));
+    }
+}
@@ -0,0 +1,112 @@
+package spring.jdbc.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.LeakTrackingDataSource;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PoolMetricsTest {
+
+    PoolMetrics metrics = new PoolMetrics();
+    HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMinIdle(2);
+        properties.setMaxPoolSize(2);
+        // PoolStats(pending 등)는 약 1초마다 갱신되므로 대기 스레드가 그보다 오래 기다려야 관찰할 수 있다
+        properties.setAcquireTimeoutMs(3_000);
+        properties.setValidationTimeoutMs(250);
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), properties, metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void acquireAndUsage() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            try (Connection con = dataSource.getConnection()) {
+                assertTrue(con.isValid(1));
+            }
+        }
+
+        assertEquals("MemberPool", metrics.getPoolName());
+        assertEquals(10, metrics.getAcquireWait().getCount());
+        assertEquals(10, metrics.getConnectionUsage().getCount());
+        assertEquals(0, metrics.getTimeoutCount());
+
+        // 풀을 시작하며 만든 커넥션은 생성 시간이 보고되지 않을 수 있으므로, 하나를 내보내 새로 만들게 한다
+        long created = metrics.getConnectionCreation().getCount();
+        try (Connection con = dataSource.getConnection()) {
+            dataSource.evictConnection(con);
+        }
+        await(() -> metrics.getConnectionCreation().getCount() > created);
+    }
+
+    @Test
+    void saturation() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection con1 = dataSource.getConnection();
+             Connection con2 = dataSource.getConnection()) {
+            awaitValue(2, metrics::getActiveConnections);
+
+            Future<?> waiting = executor.submit(() -> dataSource.getConnection());
+            awaitValue(1, metrics::getPendingThreads);
+
+            Exception e = assertThrows(Exception.class, waiting::get);
+            assertTrue(e.getCause() instanceof SQLTransientConnectionException);
+            assertEquals(1, metrics.getTimeoutCount());
+            assertTrue(metrics.dump().contains("timeouts=1"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reporterFindsLeaks() throws SQLException {
+        LeakTrackingDataSource tracking = new LeakTrackingDataSource(dataSource);
+        try (PoolMetricsReporter reporter = new PoolMetricsReporter(
+                metrics, tracking, Duration.ZERO, Duration.ofHours(1));
+             Connection held = tracking.getConnection()) {
+            assertEquals(1, reporter.report());
+        }
+        assertEquals(0, tracking.getBorrowedCount());
+    }
+
+    /** PoolStats 는 일정 시간 캐시된 값을 돌려주므로 갱신될 때까지 기다린다 */
+    private static void awaitValue(int expected, IntSupplier actual) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (actual.getAsInt() != expected) {
+            assertTrue(System.currentTimeMillis() < deadline, "expected " + expected + " but was " + actual.getAsInt());
+            Thread.sleep(50);
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+}
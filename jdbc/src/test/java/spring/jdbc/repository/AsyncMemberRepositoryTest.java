@@ -0,0 +1,126 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.PreparedStatementCache;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+class AsyncMemberRepositoryTest {
+
+    static final int POOL_SIZE = 10;
+    static final int REQUESTS = 10_000;
+    static final int MEMBERS = 100;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMaxPoolSize(POOL_SIZE);
+        properties.setAcquireTimeoutMs(30_000);
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), properties);
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource, new PreparedStatementCache(16));
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("async" + i, i));
+        }
+        repository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void findByIdAsync() throws Exception {
+        try (AsyncMemberRepository async = AsyncMemberRepository.create(repository, POOL_SIZE)) {
+            assertEquals(new Member("async7", 7), async.findByIdAsync("async7").get());
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> async.findByIdAsync("none").get());
+            assertTrue(e.getCause() instanceof NoSuchElementException);
+        }
+    }
+
+    @Test
+    void concurrencyIsBoundedBySemaphore() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        MemberRepository slowRepository = new MemberRepositoryV0(dataSource) {
+            @Override
+            public Member findById(String memberId) throws SQLException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                    return super.findById(memberId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+
+        ExecutorService unbounded = AsyncMemberRepository.newVirtualThreadPerTaskExecutor()
+                .orElseGet(Executors::newCachedThreadPool);
+        try (AsyncMemberRepository async = new AsyncMemberRepository(slowRepository, unbounded, 4)) {
+            fanOut(async, 200);
+        }
+        assertTrue(maxInFlight.get() <= 4, "maxInFlight=" + maxInFlight.get());
+    }
+
+    @Test
+    void loadPlatformThreads() throws Exception {
+        try (AsyncMemberRepository async = AsyncMemberRepository.withPlatformThreads(repository, POOL_SIZE)) {
+            log.info("platform threads: {} requests in {}ms", REQUESTS, fanOut(async, REQUESTS));
+        }
+    }
+
+    @Test
+    void loadVirtualThreads() throws Exception {
+        assumeTrue(AsyncMemberRepository.newVirtualThreadPerTaskExecutor().isPresent(), "가상 스레드는 Java 21 이상");
+        try (AsyncMemberRepository async = AsyncMemberRepository.create(repository, POOL_SIZE)) {
+            log.info("virtual threads: {} requests in {}ms", REQUESTS, fanOut(async, REQUESTS));
+        }
+    }
+
+    /**
+     * requests 건의 조회를 한꺼번에 요청하고 모두 끝날 때까지 걸린 시간(ms)
+     */
+    private long fanOut(AsyncMemberRepository async, int requests) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Member>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(async.findByIdAsync("async" + (i % MEMBERS)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        for (int i = 0; i < requests; i++) {
+            assertEquals(i % MEMBERS, futures.get(i).join().getMoney());
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,136 @@
+package spring.jdbc.repository;
+
+import org.junit.jupiter.api.Test;
+import spring.jdbc.domain.Member;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingMemberRepositoryTest {
+
+    FakeMemberRepository delegate = new FakeMemberRepository();
+    CachingMemberRepository repository = new CachingMemberRepository(delegate, 100, Duration.ofMinutes(1));
+
+    @Test
+    void readThrough() throws SQLException {
+        delegate.store.put("memberA", 1000);
+
+        assertEquals(new Member("memberA", 1000), repository.findById("memberA"));
+        assertEquals(new Member("memberA", 1000), repository.findById("memberA"));
+
+        assertEquals(1, delegate.findCount.get());
+        assertEquals(0.5, repository.stats().hitRate());
+    }
+
+    @Test
+    void writeInvalidates() throws SQLException {
+        repository.save(new Member("memberA", 1000));
+        assertEquals(1000, repository.findById("memberA").getMoney());
+        assertEquals(0, delegate.findCount.get(), "save 한 값은 바로 캐시에서 읽는다");
+
+        repository.update("memberA", 2000);
+        assertEquals(2000, repository.findById("memberA").getMoney());
+        assertEquals(1, delegate.findCount.get());
+
+        repository.delete("memberA");
+        assertThrows(NoSuchElementException.class, () -> repository.findById("memberA"));
+    }
+
+    @Test
+    void returnedMemberIsCopy() throws SQLException {
+        repository.save(new Member("memberA", 1000));
+        repository.findById("memberA").setMoney(0);
+        assertEquals(1000, repository.findById("memberA").getMoney());
+    }
+
+    @Test
+    void sizeEviction() throws SQLException {
+        CachingMemberRepository small = new CachingMemberRepository(delegate, 10, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) {
+            small.save(new Member("member" + i, i));
+        }
+        small.cleanUp();
+
+        assertTrue(small.estimatedSize() <= 10);
+        assertEquals(90, small.stats().evictionCount());
+    }
+
+    @Test
+    void singleFlight() throws Exception {
+        delegate.store.put("hot", 1000);
+        delegate.findDelayMs = 100;
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Member>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return repository.findById("hot");
+            }));
+        }
+        start.countDown();
+        for (Future<Member> future : futures) {
+            assertEquals(1000, future.get().getMoney());
+        }
+        executor.shutdown();
+
+        assertEquals(1, delegate.findCount.get());
+    }
+
+    static class FakeMemberRepository implements MemberRepository {
+
+        final Map<String, Integer> store = new ConcurrentHashMap<>();
+        final AtomicInteger findCount = new AtomicInteger();
+        volatile long findDelayMs;
+
+        @Override
+        public Member save(Member member) {
+            store.put(member.getMemberId(), member.getMoney());
+            return member;
+        }
+
+        @Override
+        public Optional<Member> findOptionalById(String memberId) {
+            findCount.incrementAndGet();
+            if (findDelayMs > 0) {
+                try {
+                    Thread.sleep(findDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.ofNullable(store.get(memberId)).map(money -> new Member(memberId, money));
+        }
+
+        @Override
+        public void update(String memberId, int money) {
+            store.computeIfPresent(memberId, (id, old) -> money);
+        }
+
+        @Override
+        public void delete(String memberId) {
+            store.remove(memberId);
+        }
+
+        @Override
+        public boolean addMoney(String memberId, int delta) {
+            return store.computeIfPresent(memberId, (id, old) -> old + delta) != null;
+        }
+
+        @Override
+        public boolean compareAndSetMoney(String memberId, int expected, int newValue) {
+            return store.replace(memberId, expected, newValue);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberRepositoryV0AtomicTest {
+
+    static final int THREADS = 16;
+    static final int OPS_PER_THREAD = 500;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMaxPoolSize(THREADS);
+        properties.setAcquireTimeoutMs(30_000);
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl() + ";LOCK_TIMEOUT=10000", properties);
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+        repository.save(new Member("counter", 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void addMoney() throws SQLException {
+        assertTrue(repository.addMoney("counter", 100));
+        assertTrue(repository.addMoney("counter", -100));
+        assertFalse(repository.addMoney("counter", -1), "잔액이 음수가 되면 반영하지 않는다");
+        assertFalse(repository.addMoney("unknown", 1));
+        assertEquals(0, repository.findById("counter").getMoney());
+    }
+
+    @Test
+    void compareAndSetMoney() throws SQLException {
+        assertTrue(repository.compareAndSetMoney("counter", 0, 10));
+        assertFalse(repository.compareAndSetMoney("counter", 0, 20));
+        assertEquals(10, repository.findById("counter").getMoney());
+    }
+
+    @Test
+    void concurrentAddMoneyLosesNoUpdate() throws Exception {
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                assertTrue(repository.addMoney("counter", 1));
+            }
+            return null;
+        });
+        assertEquals(THREADS * OPS_PER_THREAD, repository.findById("counter").getMoney());
+    }
+
+    @Test
+    void concurrentCompareAndSetLosesNoUpdate() throws Exception {
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                int current;
+                do {
+                    current = repository.findById("counter").getMoney();
+                } while (!repository.compareAndSetMoney("counter", current, current + 1));
+            }
+            return null;
+        });
+        assertEquals(THREADS * OPS_PER_THREAD, repository.findById("counter").getMoney());
+    }
+
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인메모리 H2 에서 단건 메서드와 배치 메서드의 처리량(rows/sec)을 비교한다.
+ */
+@Slf4j
+class MemberRepositoryV0BatchTest {
+
+    static final int ROWS = 10_000;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void batchCrud() throws SQLException {
+        List<Member> members = members("batch", ROWS);
+
+        int[] inserted = repository.saveAll(members, 500);
+        assertEquals(ROWS, inserted.length);
+        assertTrue(Arrays.stream(inserted).allMatch(count -> count == 1));
+
+        Map<String, Integer> moneyById = new LinkedHashMap<>();
+        members.forEach(member -> moneyById.put(member.getMemberId(), member.getMoney() + 1));
+        moneyById.put("unknown", 0);
+        int[] updated = repository.updateAll(moneyById, 500);
+        assertEquals(1, updated[0]);
+        assertEquals(0, updated[updated.length - 1]);
+        assertEquals(members.get(7).getMoney() + 1, repository.findById(members.get(7).getMemberId()).getMoney());
+
+        int[] deleted = repository.deleteAll(moneyById.keySet(), 500);
+        assertEquals(ROWS, Arrays.stream(deleted).sum());
+        assertThrows(NoSuchElementException.class, () -> repository.findById(members.get(0).getMemberId()));
+    }
+
+    @Test
+    void failedChunkIsRolledBack() throws SQLException {
+        List<Member> members = members("dup", 10);
+        members.add(new Member("dup0", 0));
+
+        assertThrows(SQLException.class, () -> repository.saveAll(members, 5));
+
+        // 앞의 두 청크(dup0~dup9)는 커밋, 중복 키가 들어간 마지막 청크만 롤백
+        assertEquals(9, repository.findById("dup9").getMoney());
+        assertEquals(10, Arrays.stream(repository.deleteAll(ids(members.subList(0, 10)))).sum());
+    }
+
+    @Test
+    void throughputSingleVsBatch() throws SQLException {
+        List<Member> single = members("single", ROWS);
+        long start = System.nanoTime();
+        for (Member member : single) {
+            repository.save(member);
+        }
+        double singleRowsPerSec = rowsPerSec(ROWS, System.nanoTime() - start);
+
+        List<Member> batch = members("batch", ROWS);
+        start = System.nanoTime();
+        repository.saveAll(batch);
+        double batchRowsPerSec = rowsPerSec(ROWS, System.nanoTime() - start);
+
+        log.info("insert rows/sec single={}, batch={}", (long) singleRowsPerSec, (long) batchRowsPerSec);
+        assertEquals(ROWS, repository.deleteAll(ids(batch)).length);
+    }
+
+    private static List<Member> members(String prefix, int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(new Member(prefix + i, i));
+        }
+        return members;
+    }
+
+    private static List<String> ids(List<Member> members) {
+        return members.stream().map(Member::getMemberId).toList();
+    }
+
+    private static double rowsPerSec(int rows, long elapsedNanos) {
+        return rows * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,84 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.PreparedStatementCache;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberRepositoryV0FindByIdsTest {
+
+    HikariDataSource dataSource;
+    PreparedStatementCache statementCache;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        statementCache = new PreparedStatementCache(32);
+        repository = new MemberRepositoryV0(dataSource, statementCache);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            members.add(new Member("m" + i, i));
+        }
+        repository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void findByIds() throws SQLException {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            ids.add("m" + i);
+        }
+        ids.add("missing1");
+        ids.add("m0");
+        ids.add("missing2");
+
+        Map<String, Member> result = repository.findByIds(ids);
+
+        assertEquals(252, result.size());
+        assertEquals(new Member("m42", 42), result.get("m42"));
+        assertTrue(result.containsKey("missing1"));
+        assertNull(result.get("missing1"));
+        assertNull(result.get("missing2"));
+        assertEquals(250, result.values().stream().filter(member -> member != null).count());
+    }
+
+    @Test
+    void statementShapesArePadded() throws SQLException {
+        // 259개 → 128 + 128 + 3(→ 4 버킷). 같은 대여 안에서 128 버킷 statement 를 재사용한다
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 259; i++) {
+            ids.add("m" + i);
+        }
+
+        Map<String, Member> result = repository.findByIds(ids);
+
+        assertEquals(2, statementCache.getMisses());
+        assertEquals(1, statementCache.getHits());
+        assertEquals(259, result.values().stream().filter(member -> member != null).count());
+    }
+
+    @Test
+    void empty() throws SQLException {
+        assertTrue(repository.findByIds(List.of()).isEmpty());
+    }
+}
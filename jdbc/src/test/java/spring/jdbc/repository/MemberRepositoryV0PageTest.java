@@ -0,0 +1,102 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberRepositoryV0PageTest {
+
+    static final int ROWS = 250;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member(String.format("page%04d", i), i));
+        }
+        repository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void findPageAfter() throws SQLException {
+        List<Member> first = repository.findPageAfter(null, 10);
+        assertEquals(10, first.size());
+        assertEquals("page0000", first.get(0).getMemberId());
+        assertEquals("page0009", first.get(9).getMemberId());
+
+        List<Member> second = repository.findPageAfter("page0009", 10);
+        assertEquals("page0010", second.get(0).getMemberId());
+
+        assertEquals(List.of(new Member("page0249", 249)), repository.findPageAfter("page0248", 10));
+        assertTrue(repository.findPageAfter("page0249", 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.findPageAfter(null, 0));
+    }
+
+    @Test
+    void pageIteratorWalksWholeTable() {
+        Iterator<List<Member>> pages = repository.pageIterator(100);
+        List<Member> all = new ArrayList<>();
+        int pageCount = 0;
+        while (pages.hasNext()) {
+            all.addAll(pages.next());
+            pageCount++;
+        }
+
+        assertEquals(3, pageCount);
+        assertEquals(ROWS, all.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i, all.get(i).getMoney());
+        }
+        assertThrows(NoSuchElementException.class, pages::next);
+    }
+
+    @Test
+    void pageIteratorOnExactMultiple() {
+        Iterator<List<Member>> pages = repository.pageIterator(50);
+        int rows = 0;
+        while (pages.hasNext()) {
+            rows += pages.next().size();
+        }
+        assertEquals(ROWS, rows);
+    }
+
+    @Test
+    void rowsChangedBehindCursorAreNotRepeated() throws SQLException {
+        Iterator<List<Member>> pages = repository.pageIterator(100);
+        List<Member> first = pages.next();
+
+        /* 이미 지나간 키 영역에 행이 생기고 지워져도 다음 페이지는 영향받지 않는다 */
+        repository.save(new Member("page0000a", -1));
+        repository.delete("page0001");
+
+        List<Member> second = pages.next();
+        assertEquals("page0099", first.get(99).getMemberId());
+        assertEquals("page0100", second.get(0).getMemberId());
+        assertEquals(100, second.size());
+    }
+}
@@ -0,0 +1,75 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberRepositoryV0StreamTest {
+
+    static final int ROWS = 5_000;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("stream" + i, 1));
+        }
+        repository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void streamAll() throws SQLException {
+        try (Stream<Member> members = repository.streamAll(100)) {
+            assertEquals(ROWS, members.mapToInt(Member::getMoney).sum());
+            assertEquals(1, dataSource.getHikariPoolMXBean().getActiveConnections());
+        }
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @Test
+    void closeBeforeExhausted() throws SQLException {
+        try (Stream<Member> members = repository.streamAll(100)) {
+            assertEquals(10, members.limit(10).count());
+        }
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+
+        // 반납된 커넥션은 다시 쓰기 가능 상태여야 한다
+        repository.update("stream0", 2);
+        assertEquals(2, repository.findById("stream0").getMoney());
+    }
+
+    @Test
+    void forEach() throws SQLException {
+        LongAdder money = new LongAdder();
+        long count = repository.forEach(100, member -> money.add(member.getMoney()));
+
+        assertEquals(ROWS, count);
+        assertEquals(ROWS, money.sum());
+        assertEquals(0, dataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+}
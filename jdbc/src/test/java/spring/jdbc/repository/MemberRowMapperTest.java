@@ -0,0 +1,53 @@
+package spring.jdbc.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberRowMapperTest {
+
+    DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.driverManager(MemberTestDatabase.newUrl());
+        MemberTestDatabase.createMemberTable(dataSource);
+        new MemberRepositoryV0(dataSource).save(new Member("mapper", 1234));
+    }
+
+    @Test
+    void defaultColumns() throws SQLException {
+        assertEquals(new Member("mapper", 1234),
+                mapSingle("select " + MemberRowMapper.COLUMNS + " from member", MemberRowMapper.INSTANCE));
+    }
+
+    @Test
+    void resolveOtherShape() throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement pstmt = con.prepareStatement("select money, 'x' as extra, member_id from member");
+             ResultSet rs = pstmt.executeQuery()) {
+            MemberRowMapper mapper = MemberRowMapper.resolve(rs);
+            assertTrue(rs.next());
+            assertEquals(new Member("mapper", 1234), mapper.mapRow(rs, 0));
+        }
+    }
+
+    private Member mapSingle(String sql, MemberRowMapper mapper) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement pstmt = con.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            assertTrue(rs.next());
+            return mapper.mapRow(rs, 0);
+        }
+    }
+}
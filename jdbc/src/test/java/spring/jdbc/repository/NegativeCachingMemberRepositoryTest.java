@@ -0,0 +1,72 @@
+package spring.jdbc.repository;
+
+import org.junit.jupiter.api.Test;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.CachingMemberRepositoryTest.FakeMemberRepository;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCachingMemberRepositoryTest {
+
+    FakeMemberRepository delegate = new FakeMemberRepository();
+    NegativeCachingMemberRepository repository =
+            new NegativeCachingMemberRepository(delegate, 100, Duration.ofMinutes(1));
+
+    @Test
+    void repeatedMissSkipsDelegate() throws SQLException {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Optional.empty(), repository.findOptionalById("nobody"));
+        }
+
+        assertEquals(1, delegate.findCount.get());
+        assertEquals(9, repository.stats().hitCount());
+        assertThrows(NoSuchElementException.class, () -> repository.findById("nobody"));
+    }
+
+    @Test
+    void saveInvalidatesMiss() throws SQLException {
+        assertTrue(repository.findOptionalById("memberA").isEmpty());
+
+        repository.save(new Member("memberA", 1000));
+
+        assertEquals(Optional.of(new Member("memberA", 1000)), repository.findOptionalById("memberA"));
+        assertEquals(2, delegate.findCount.get());
+    }
+
+    @Test
+    void hitsAreNotCached() throws SQLException {
+        delegate.store.put("memberA", 1000);
+        repository.findOptionalById("memberA");
+        repository.findOptionalById("memberA");
+
+        assertEquals(2, delegate.findCount.get());
+        assertEquals(0, repository.estimatedSize());
+    }
+
+    @Test
+    void missExpiresAfterTtl() throws Exception {
+        NegativeCachingMemberRepository shortLived =
+                new NegativeCachingMemberRepository(delegate, 100, Duration.ofMillis(50));
+        shortLived.findOptionalById("memberA");
+        delegate.store.put("memberA", 1000);
+        Thread.sleep(100);
+
+        assertTrue(shortLived.findOptionalById("memberA").isPresent());
+    }
+
+    @Test
+    void withHitCache() throws SQLException {
+        CachingMemberRepository layered = new CachingMemberRepository(repository, 100, Duration.ofMinutes(1));
+        layered.findOptionalById("memberA");
+        layered.findOptionalById("memberA");
+        assertEquals(1, delegate.findCount.get());
+
+        layered.save(new Member("memberA", 1000));
+        assertEquals(1000, layered.findById("memberA").getMoney());
+    }
+}
@@ -0,0 +1,195 @@
+package spring.jdbc.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.domain.Member;
+import spring.jdbc.support.MemberTestDatabase;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindMemberRepositoryTest {
+
+    static final int MEMBERS = 10;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl(), new ConnectionPoolProperties());
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Member("wb" + i, 0));
+        }
+        repository.saveAll(members);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void coalescesUpdatesPerMember() throws SQLException {
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(repository, 10_000, Duration.ofHours(1))) {
+            for (int money = 1; money <= 1000; money++) {
+                for (int i = 0; i < MEMBERS; i++) {
+                    writeBehind.update("wb" + i, money);
+                }
+            }
+            assertEquals(MEMBERS, writeBehind.getQueueDepth());
+            assertEquals(0, repository.findById("wb0").getMoney(), "아직 DB 에는 반영 전");
+            assertEquals(1000, writeBehind.findById("wb0").getMoney(), "대기 값을 먼저 보여준다");
+
+            assertEquals(MEMBERS, writeBehind.flush());
+
+            assertEquals(0, writeBehind.getQueueDepth());
+            assertEquals(MEMBERS * 1000, writeBehind.getUpdatesReceived());
+            assertEquals(MEMBERS, writeBehind.getRowsFlushed());
+            assertEquals(1, writeBehind.getFlushLatency().getCount());
+            assertEquals(1000, repository.findById("wb9").getMoney());
+        }
+    }
+
+    @Test
+    void flushOnSizeThreshold() throws Exception {
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(repository, 5, Duration.ofHours(1))) {
+            for (int i = 0; i < MEMBERS; i++) {
+                writeBehind.update("wb" + i, 7);
+            }
+            awaitEmptyQueue(writeBehind);
+            assertEquals(7, repository.findById("wb0").getMoney());
+        }
+    }
+
+    @Test
+    void flushOnInterval() throws Exception {
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(repository, 10_000, Duration.ofMillis(50))) {
+            writeBehind.update("wb3", 33);
+            awaitEmptyQueue(writeBehind);
+            assertEquals(33, repository.findById("wb3").getMoney());
+        }
+    }
+
+    @Test
+    void flushOnClose() throws SQLException {
+        WriteBehindMemberRepository writeBehind =
+                new WriteBehindMemberRepository(repository, 10_000, Duration.ofHours(1));
+        writeBehind.update("wb1", 11);
+        writeBehind.close();
+
+        assertEquals(11, repository.findById("wb1").getMoney());
+        assertThrows(IllegalStateException.class, () -> writeBehind.update("wb1", 12));
+    }
+
+    @Test
+    void atomicOperationSeesPendingValue() throws SQLException {
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(repository, 10_000, Duration.ofHours(1))) {
+            writeBehind.update("wb2", 100);
+            assertTrue(writeBehind.addMoney("wb2", 5));
+            assertEquals(105, repository.findById("wb2").getMoney());
+        }
+    }
+
+    @Test
+    void pendingValueStaysVisibleWhileBeingWritten() throws Exception {
+        BlockingUpdateRepository blocking = new BlockingUpdateRepository(dataSource);
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(blocking, 10_000, Duration.ofHours(1))) {
+            writeBehind.update("wb4", 44);
+            Thread flusher = new Thread(() -> {
+                try {
+                    writeBehind.flush();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            flusher.start();
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+
+            // pending 에서는 빠졌지만 아직 DB 에 쓰기 전
+            assertEquals(0, writeBehind.getQueueDepth());
+            assertEquals(0, repository.findById("wb4").getMoney());
+            assertEquals(44, writeBehind.findById("wb4").getMoney());
+
+            blocking.release.countDown();
+            flusher.join(5_000);
+            assertEquals(44, repository.findById("wb4").getMoney());
+        }
+    }
+
+    @Test
+    void burstSchedulesSingleFlush() throws Exception {
+        BlockingUpdateRepository blocking = new BlockingUpdateRepository(dataSource);
+        try (WriteBehindMemberRepository writeBehind =
+                     new WriteBehindMemberRepository(blocking, 1, Duration.ofHours(1))) {
+            writeBehind.update("wb0", 1);
+            assertTrue(blocking.entered.await(5, TimeUnit.SECONDS));
+
+            // 예약된 flush 가 끝나지 않았으므로 임계치를 넘어도 더 예약하지 않는다
+            for (int i = 0; i < 1000; i++) {
+                writeBehind.update("burst" + i, i);
+            }
+            blocking.release.countDown();
+            Thread.sleep(200);
+
+            assertEquals(1, blocking.updateAllCalls.get());
+            assertEquals(1000, writeBehind.getQueueDepth());
+        }
+    }
+
+    /**
+     * 첫 updateAll 을 release 될 때까지 붙잡아 두는 리포지토리.
+     */
+    static class BlockingUpdateRepository extends MemberRepositoryV0 {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger updateAllCalls = new AtomicInteger();
+
+        BlockingUpdateRepository(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] updateAll(Map<String, Integer> moneyByMemberId) throws SQLException {
+            updateAllCalls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.updateAll(moneyByMemberId);
+        }
+    }
+
+    private static void awaitEmptyQueue(WriteBehindMemberRepository writeBehind) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writeBehind.getQueueDepth() > 0 || writeBehind.getRowsFlushed() == 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "flush timeout");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package spring.jdbc.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spring.jdbc.connection.ConnectionPoolProperties;
+import spring.jdbc.connection.DataSourceFactory;
+import spring.jdbc.connection.PreparedStatementCache;
+import spring.jdbc.domain.Member;
+import spring.jdbc.repository.MemberRepositoryV0;
+import spring.jdbc.support.MemberTestDatabase;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class MemberTransferServiceTest {
+
+    static final int HOT_ACCOUNTS = 5;
+    static final int INITIAL_MONEY = 10_000;
+
+    HikariDataSource dataSource;
+    MemberRepositoryV0 repository;
+    MemberTransferService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        properties.setMaxPoolSize(16);
+        properties.setAcquireTimeoutMs(30_000);
+        /* 핫 계정 잠금 대기가 기본 lock timeout 을 넘지 않도록 */
+        dataSource = DataSourceFactory.pooled(MemberTestDatabase.newUrl() + ";LOCK_TIMEOUT=10000", properties);
+        MemberTestDatabase.createMemberTable(dataSource);
+        repository = new MemberRepositoryV0(dataSource, new PreparedStatementCache(16));
+        service = new MemberTransferService(dataSource, repository);
+
+        for (int i = 0; i < HOT_ACCOUNTS; i++) {
+            repository.save(new Member("hot" + i, INITIAL_MONEY));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void accountTransfer() throws SQLException {
+        service.accountTransfer("hot0", "hot1", 2000);
+
+        assertEquals(8000, repository.findById("hot0").getMoney());
+        assertEquals(12000, repository.findById("hot1").getMoney());
+    }
+
+    @Test
+    void insufficientMoneyRollsBack() throws SQLException {
+        assertThrows(IllegalStateException.class, () -> service.accountTransfer("hot0", "hot1", INITIAL_MONEY + 1));
+
+        assertEquals(INITIAL_MONEY, repository.findById("hot0").getMoney());
+        assertEquals(INITIAL_MONEY, repository.findById("hot1").getMoney());
+    }
+
+    @Test
+    void rollbackFailureDoesNotHideTransferFailure() {
+        SQLException rollbackFailure = new SQLException("rollback failed");
+        DataSource failingRollback = proxy(DataSource.class, dataSource, (method, result) ->
+                method.getName().equals("getConnection")
+                        ? proxy(Connection.class, (Connection) result, (m, r) -> {
+                            if (m.getName().equals("rollback")) {
+                                throw rollbackFailure;
+                            }
+                            return r;
+                        })
+                        : result);
+        MemberTransferService failingService = new MemberTransferService(failingRollback, repository);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> failingService.accountTransfer("hot0", "hot1", INITIAL_MONEY + 1));
+
+        assertArrayEquals(new Throwable[]{rollbackFailure}, e.getSuppressed());
+    }
+
+    @Test
+    void concurrentTransfersConserveTotal() throws Exception {
+        int threads = 16;
+        int transfersPerThread = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                start.await();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    int from = random.nextInt(HOT_ACCOUNTS);
+                    int to = (from + 1 + random.nextInt(HOT_ACCOUNTS - 1)) % HOT_ACCOUNTS;
+                    try {
+                        service.accountTransfer("hot" + from, "hot" + to, 1 + random.nextInt(500));
+                        committed.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        executor.shutdown();
+
+        log.info("transfers committed={}, rejected={}, tx/sec={}", committed.get(), rejected.get(),
+                (long) ((committed.get() + rejected.get()) * 1_000_000_000.0 / elapsedNanos));
+
+        assertEquals(threads * transfersPerThread, committed.get() + rejected.get());
+        try (Stream<Member> members = repository.streamAll(100)) {
+            assertEquals(HOT_ACCOUNTS * INITIAL_MONEY, members.mapToInt(Member::getMoney).sum());
+        }
+    }
+
+    interface ResultMapper {
+        Object map(Method method, Object result) throws Throwable;
+    }
+
+    /** target 의 메서드를 그대로 호출한 뒤 결과를 mapper 로 바꾸는 프록시 */
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return mapper.map(method, result);
+        }));
+    }
+}
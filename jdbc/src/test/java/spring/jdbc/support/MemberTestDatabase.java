@@ -0,0 +1,30 @@
+package spring.jdbc.support;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * H2 TCP 서버 없이 돌 수 있도록 테스트/벤치마크마다 독립된 인메모리 H2 DB를 만든다.
+ */
+public class MemberTestDatabase {
+
+    public static final String CREATE_MEMBER_TABLE =
+            "create table member (" +
+            " member_id varchar(20) primary key," +
+            " money integer not null default 0)";
+
+    /** 호출마다 새로운 이름의 인메모리 DB URL. 마지막 커넥션이 닫혀도 DB를 유지한다 */
+    public static String newUrl() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    public static void createMemberTable(DataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             Statement stmt = con.createStatement()) {
+            stmt.execute(CREATE_MEMBER_TABLE);
+        }
+    }
+}
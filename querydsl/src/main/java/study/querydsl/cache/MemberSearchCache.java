@@ -0,0 +1,140 @@
+package study.querydsl.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 검색({@code search(MemberSearchCondition)}) 결과를 검색 조건별로 보관하는 캐시입니다.
+ *
+ * <ul>
+ *   <li>키는 정규화한 검색 조건입니다. 빈 문자열은 조건이 없는 것({@code null})과 같게 취급합니다.</li>
+ *   <li>최대 개수와 저장 후 TTL 로 만료되며, Member/Team 이 저장·수정·삭제되면
+ *       {@link MemberSearchCacheInvalidator}가 전체를 무효화합니다.</li>
+ *   <li>쓰기 트랜잭션 안에서는 아직 flush 되지 않은 변경을 놓칠 수 있으므로 캐시를 거치지 않고 바로 조회합니다.</li>
+ * </ul>
+ *
+ * <p>무효화는 진행 중인 조회를 취소하지 않으므로, 무효화 전에 시작해 커밋 전 데이터를 읽은 조회가
+ * 무효화 뒤에 저장될 수 있습니다. 그래서 항목마다 조회를 시작한 시점의 세대를 기록하고,
+ * {@link #invalidateAll()} 이후 세대가 바뀐 항목은 꺼낼 때 버립니다.</p>
+ *
+ * <p>DTO 는 가변 객체이므로 꺼낼 때마다 복사본을 돌려줍니다.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class MemberSearchCache {
+
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberSearchCache(MemberSearchCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 결과가 있으면 돌려주고, 없으면 {@code loader}로 조회한 뒤 저장합니다.
+     * 같은 조건의 동시 조회는 한 번만 실행됩니다.
+     *
+     * @param condition 검색 조건
+     * @param loader    실제 조회 함수
+     * @return 검색 결과 (복사본)
+     */
+    public List<MemberTeamDto> get(MemberSearchCondition condition,
+                                   Function<MemberSearchCondition, List<MemberTeamDto>> loader) {
+        if (!enabled || inReadWriteTransaction()) {
+            return loader.apply(condition);
+        }
+        Key key = Key.of(condition);
+        Entry entry = cache.get(key, k -> {
+            long loadGeneration = generation.get();
+            return new Entry(loadGeneration, List.copyOf(loader.apply(condition)));
+        });
+        if (entry.getGeneration() != generation.get()) {
+            // 무효화 전에 시작한 조회 결과이므로 버리고 캐시 없이 다시 조회한다
+            cache.asMap().remove(key, entry);
+            return loader.apply(condition);
+        }
+        return copyOf(entry.getResults());
+    }
+
+    /**
+     * 모든 검색 결과를 무효화합니다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 누적 통계 스냅샷. hitRate(), hitCount(), missCount(), evictionCount() 등을 제공합니다.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static List<MemberTeamDto> copyOf(List<MemberTeamDto> results) {
+        return results.stream()
+                .map(dto -> new MemberTeamDto(dto.getMemberId(), dto.getUsername(), dto.getAge(),
+                        dto.getTeamId(), dto.getTeamName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 조회를 시작한 시점의 세대와 결과.
+     */
+    @Value
+    static class Entry {
+        long generation;
+        List<MemberTeamDto> results;
+    }
+
+    /**
+     * 정규화한 검색 조건. {@link MemberSearchCondition}은 가변 객체라 키로 직접 쓰지 않습니다.
+     */
+    @Value
+    static class Key {
+        String username;
+        String teamName;
+        Integer ageGoe;
+        Integer ageLoe;
+
+        static Key of(MemberSearchCondition condition) {
+            return new Key(emptyToNull(condition.getUsername()),
+                    emptyToNull(condition.getTeamName()),
+                    condition.getAgeGoe(),
+                    condition.getAgeLoe());
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+}
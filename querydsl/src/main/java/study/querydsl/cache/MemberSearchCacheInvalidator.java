@@ -0,0 +1,61 @@
+package study.querydsl.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Member/Team 엔티티가 저장·수정·삭제될 때 {@link MemberSearchCache}를 비우는 JPA 엔티티 리스너입니다.
+ *
+ * <p>변경은 flush 시점에 한 번, 커밋 직후에 한 번 더 무효화합니다.
+ * flush 와 커밋 사이에 다른 트랜잭션이 커밋 전 데이터로 캐시를 다시 채울 수 있기 때문입니다.</p>
+ *
+ * <p>Hibernate 는 스프링 빈 컨테이너를 통해 리스너를 얻으므로 생성자 주입을 사용할 수 있습니다.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class MemberSearchCacheInvalidator {
+
+    private final MemberSearchCache memberSearchCache;
+
+    public MemberSearchCacheInvalidator(MemberSearchCache memberSearchCache) {
+        this.memberSearchCache = memberSearchCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        invalidate();
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 중이면 커밋 후에도 한 번 더 무효화합니다.
+     * 커밋 후 무효화는 트랜잭션마다 한 번만 등록합니다.
+     * JPQL 벌크 연산처럼 엔티티 리스너를 거치지 않는 변경 후에 직접 호출합니다.
+     */
+    public void invalidate() {
+        memberSearchCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberSearchCache.invalidateAll();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(MemberSearchCacheInvalidator.this);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package study.querydsl.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@link MemberSearchCache} 설정 값입니다. {@code member.search-cache.*} 프로퍼티로 변경할 수 있습니다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@Component
+@ConfigurationProperties("member.search-cache")
+public class MemberSearchCacheProperties {
+
+    /** 캐시 사용 여부 */
+    private boolean enabled = true;
+
+    /** 보관할 검색 조건(키)의 최대 개수 */
+    private long maximumSize = 1000;
+
+    /** 저장 후 만료 시간 */
+    private Duration ttl = Duration.ofSeconds(30);
+}
@@ -1,14 +1,11 @@
 package study.querydsl.controller;
 
 import jakarta.annotation.PostConstruct;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import study.querydsl.entity.Member;
-import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberBulkLoader;
 
 
 /**
@@ -35,30 +32,28 @@ public class InitMember {
 
     /**
      * 샘플 데이터를 실제로 초기화하는 내부 서비스 클래스입니다.
-     * 로컬 프로파일에서만 사용되며, 트랜잭션 안에서 실행됩니다.
+     * 로컬 프로파일에서만 사용되며, 생성 개수는 {@code init.member.*} 설정으로 조정합니다.
      */
     @Component
+    @RequiredArgsConstructor
     static class InitMemberService {
 
-        @PersistenceContext
-        EntityManager em;
+        private final MemberBulkLoader memberBulkLoader;
+
+        @Value("${init.member.team-count:2}")
+        private int teamCount;
+
+        @Value("${init.member.member-count:100}")
+        private int memberCount;
 
         /**
-         * 팀 2개(teamA, teamB)와 회원 100명을 생성 및 저장합니다.
-         * 짝수 인덱스는 teamA, 홀수 인덱스는 teamB에 배정됩니다.
+         * 팀 teamCount 개(teamA, teamB, ...)와 회원 memberCount 명을 생성 및 저장합니다.
+         * 회원 i 는 {@code i % teamCount} 번째 팀에 배정되며, 기본값(팀 2개, 회원 100명)은
+         * 짝수 인덱스는 teamA, 홀수 인덱스는 teamB 입니다.
+         * 대량 데이터도 다룰 수 있도록 {@link MemberBulkLoader}가 청크 단위로 배치 저장·커밋합니다.
          */
-        @Transactional
         public void init() {
-            Team teamA = new Team("teamA");
-            Team teamB = new Team("teamB");
-
-            em.persist(teamA);
-            em.persist(teamB);
-
-            for (int i = 0; i < 100; i++) {
-                Team selectedTeam = (i % 2 == 0) ? teamA : teamB;
-                em.persist(new Member("member" + i, i, selectedTeam));
-            }
+            memberBulkLoader.load(teamCount, memberCount);
         }
     }
-}
\ No newline at end of file
+}
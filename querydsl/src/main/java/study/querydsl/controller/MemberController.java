@@ -3,9 +3,17 @@ package study.querydsl.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberSliceResponse;
 import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.repository.MemberJpaRepository;
 import study.querydsl.repository.MemberRepository;
@@ -16,10 +24,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MemberController {
 
+    private static final int MAX_SLICE_SIZE = 1000;
+
     private final MemberRepository memberRepository;
 
     private final MemberJpaRepository memberJpaRepository;
 
+    private final MemberExporter memberExporter;
+
     @GetMapping("/v1/members")
     public List<MemberTeamDto> searchMemberV1(MemberSearchCondition condition){
         return memberJpaRepository.search(condition);
@@ -35,4 +47,38 @@ public class MemberController {
                                               Pageable pageable) {
         return memberRepository.searchPageComplex(condition, pageable);
     }
+
+    // keyset 페이지: offset 없이 cursor(마지막 회원 ID) 다음부터 조회, 카운트 쿼리 없음
+    @GetMapping("/v4/members")
+    public MemberSliceResponse searchMemberV4(MemberSearchCondition condition,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be 1.." + MAX_SLICE_SIZE);
+        }
+        Long lastMemberId;
+        try {
+            lastMemberId = MemberSliceResponse.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        return MemberSliceResponse.of(memberRepository.searchSlice(condition, lastMemberId, size));
+    }
+
+    // 검색 결과 전체를 NDJSON(기본) 또는 CSV 로 스트리밍, 리스트로 모으지 않아 메모리 사용량이 일정
+    @GetMapping("/members/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(MemberSearchCondition condition,
+                                                               @RequestParam(defaultValue = "ndjson") String format) {
+        MemberExporter.Format exportFormat;
+        try {
+            exportFormat = MemberExporter.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        StreamingResponseBody body = out -> memberExporter.export(condition, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.getFileName() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,148 @@
+package study.querydsl.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.repository.MemberRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 회원 검색 결과를 NDJSON 또는 CSV 로 출력 스트림에 바로 쓰는 컴포넌트입니다.
+ *
+ * <p>{@link MemberRepository#streamSearch}로 한 건씩 읽어 곧바로 쓰므로 결과 건수와 관계없이
+ * 메모리 사용량이 일정합니다. {@code StreamingResponseBody}는 요청 스레드 밖에서 실행되어
+ * 열려 있는 트랜잭션이 없으므로, 커서를 유지하기 위해 쓰는 동안 읽기 전용 트랜잭션을 직접 엽니다.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class MemberExporter {
+
+    private static final String CSV_HEADER = "memberId,username,age,teamId,teamName";
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MemberExporter(MemberRepository memberRepository, ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 출력 형식.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileName() {
+            return "members." + extension;
+        }
+
+        /**
+         * 대소문자를 구분하지 않고 형식 이름을 해석합니다.
+         *
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+         */
+        public static Format from(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("unsupported export format: " + name);
+        }
+    }
+
+    /**
+     * 검색 조건에 해당하는 회원을 member.id 순으로 {@code out}에 씁니다. {@code out}은 닫지 않습니다.
+     *
+     * @return 쓴 회원 수
+     */
+    public long export(MemberSearchCondition condition, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        Long count;
+        try {
+            count = readOnlyTransaction.execute(status -> {
+                long rows = 0;
+                try (Stream<MemberTeamDto> members = memberRepository.streamSearch(condition)) {
+                    Iterator<MemberTeamDto> iterator = members.iterator();
+                    while (iterator.hasNext()) {
+                        writeLine(writer, format, iterator.next());
+                        rows++;
+                    }
+                }
+                return rows;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 쓰기 실패는 원래 IOException 으로 돌려준다
+            throw e.getCause();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeLine(Writer writer, Format format, MemberTeamDto dto) {
+        try {
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(dto));
+            } else {
+                writer.write(String.join(",",
+                        csv(dto.getMemberId()), csv(dto.getUsername()), csv(dto.getAge()),
+                        csv(dto.getTeamId()), csv(dto.getTeamName())));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * CSV 필드. null 은 빈 값, 쉼표·따옴표·개행이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다.
+     */
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,80 @@
+package study.querydsl.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * {@code MemberSliceResponse}는 커서 기반(keyset) 회원 검색 결과 한 페이지를 담는 응답 DTO입니다.
+ *
+ * <p>{@code nextCursor}는 이 페이지 마지막 회원 ID를 인코딩한 불투명(opaque) 토큰이며,
+ * 다음 요청의 {@code cursor} 파라미터로 그대로 넘기면 이어서 조회합니다.
+ * 다음 페이지가 없으면 {@code null}입니다.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class MemberSliceResponse {
+
+    /** 조회된 회원 목록 */
+    private final List<MemberTeamDto> content;
+
+    /** 요청한 페이지 크기 */
+    private final int size;
+
+    /** 다음 페이지 존재 여부 */
+    private final boolean hasNext;
+
+    /** 다음 페이지 커서 토큰 */
+    private final String nextCursor;
+
+    private MemberSliceResponse(List<MemberTeamDto> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * {@link Slice}로부터 응답을 만듭니다. 다음 페이지가 있으면 마지막 회원 ID로 커서를 만듭니다.
+     *
+     * @param slice keyset 검색 결과
+     * @return 응답 DTO
+     */
+    public static MemberSliceResponse of(Slice<MemberTeamDto> slice) {
+        List<MemberTeamDto> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? encodeCursor(content.get(content.size() - 1).getMemberId())
+                : null;
+        return new MemberSliceResponse(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+
+    /**
+     * 회원 ID를 URL 에 그대로 쓸 수 있는 커서 토큰으로 인코딩합니다.
+     */
+    public static String encodeCursor(Long memberId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(memberId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 회원 ID로 복원합니다. 토큰이 비어 있으면 첫 페이지를 뜻하는 {@code null}을 반환합니다.
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 토큰
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+}
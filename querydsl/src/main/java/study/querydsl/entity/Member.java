@@ -2,14 +2,23 @@ package study.querydsl.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import study.querydsl.cache.MemberSearchCacheInvalidator;
 
 @Entity
+@Table(indexes = {
+        // 회원명 단독, 회원명 + 나이 범위 검색
+        @Index(name = "idx_member_username_age", columnList = "username, age"),
+        // 나이 범위(ageGoe, ageLoe) 단독 검색
+        @Index(name = "idx_member_age", columnList = "age")
+})
+@EntityListeners(MemberSearchCacheInvalidator.class)
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "username", "age"})
 public class Member {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 1000)
     @Column(name = "member_id")
     private Long id;
     private String username;
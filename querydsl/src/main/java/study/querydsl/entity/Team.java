@@ -2,19 +2,23 @@ package study.querydsl.entity;
 
 import jakarta.persistence.Entity;
 import lombok.*;
+import study.querydsl.cache.MemberSearchCacheInvalidator;
 
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_team_name", columnList = "name"))
+@EntityListeners(MemberSearchCacheInvalidator.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "name"})
 public class Team {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq_generator")
+    @SequenceGenerator(name = "team_seq_generator", sequenceName = "team_seq", allocationSize = 100)
     @Column(name = "team_id")
     private Long id;
     private String name;
@@ -0,0 +1,148 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샘플/시드 데이터용 팀과 회원을 대량으로 저장하는 로더입니다.
+ *
+ * <ul>
+ *   <li>{@code flushSize}건마다 flush/clear 하여 영속성 컨텍스트가 커지지 않게 하고, 청크마다 커밋합니다.</li>
+ *   <li>insert 는 JDBC 배치({@code hibernate.jdbc.batch_size}, {@code order_inserts})로 묶이며,
+ *       세션 배치 크기를 {@code flushSize}로 맞춰 flush 한 번이 배치 몇 번으로 끝나게 합니다.</li>
+ *   <li>ID 는 allocationSize 가 큰 pooled 시퀀스에서 받으므로 insert 마다 시퀀스를 조회하지 않습니다.</li>
+ *   <li>회원의 팀은 {@link EntityManager#getReference}로 연결해 팀을 다시 조회하지 않습니다.</li>
+ * </ul>
+ *
+ * <p>생성 규칙: 팀 t 는 {@link #teamName(int)}, 회원 i 는 이름 {@code member<i>}, 나이 {@code i % 100},
+ * 팀 {@code i % teamCount}.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+public class MemberBulkLoader {
+
+    public static final int DEFAULT_FLUSH_SIZE = 500;
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberBulkLoader(EntityManager em, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Result load(int teamCount, int memberCount) {
+        return load(teamCount, memberCount, DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * 팀 teamCount 개와 회원 memberCount 명을 저장합니다.
+     *
+     * @param flushSize flush/clear 및 커밋 단위
+     * @return 저장 건수와 처리 속도
+     */
+    public Result load(int teamCount, int memberCount, int flushSize) {
+        if (teamCount < 1 || memberCount < 0 || flushSize < 1) {
+            throw new IllegalArgumentException(
+                    "teamCount=" + teamCount + ", memberCount=" + memberCount + ", flushSize=" + flushSize);
+        }
+        long start = System.nanoTime();
+
+        List<Long> teamIds = transactionTemplate.execute(status -> persistTeams(teamCount, flushSize));
+
+        for (int from = 0; from < memberCount; from += flushSize) {
+            int to = Math.min(from + flushSize, memberCount);
+            int chunkStart = from;
+            transactionTemplate.executeWithoutResult(status -> persistMembers(teamIds, chunkStart, to, flushSize));
+            if (to % (flushSize * 100) == 0) {
+                log.info("members loaded {}/{}", to, memberCount);
+            }
+        }
+
+        Result result = new Result(teamCount, memberCount, System.nanoTime() - start);
+        log.info("bulk load done teams={}, members={}, elapsed={}ms, {} entities/sec",
+                teamCount, memberCount, result.getElapsedMillis(), (long) result.getEntitiesPerSecond());
+        return result;
+    }
+
+    /**
+     * 팀 이름. 26개까지는 기존 샘플 데이터와 같이 teamA, teamB, ... 를 사용합니다.
+     */
+    public static String teamName(int index) {
+        return index < 26 ? "team" + (char) ('A' + index) : "team" + index;
+    }
+
+    private List<Long> persistTeams(int teamCount, int flushSize) {
+        useBatchSize(flushSize);
+        List<Long> ids = new ArrayList<>(teamCount);
+        for (int t = 0; t < teamCount; t++) {
+            Team team = new Team(teamName(t));
+            em.persist(team);
+            ids.add(team.getId());
+            if ((t + 1) % flushSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        return ids;
+    }
+
+    private void persistMembers(List<Long> teamIds, int from, int to, int flushSize) {
+        useBatchSize(flushSize);
+        for (int i = from; i < to; i++) {
+            Member member = new Member("member" + i, i % 100);
+            // changeTeam() 은 team.getMembers() 를 건드려 프록시를 초기화하므로 참조만 연결한다
+            member.setTeam(em.getReference(Team.class, teamIds.get(i % teamIds.size())));
+            em.persist(member);
+        }
+        flushAndClear();
+    }
+
+    private void useBatchSize(int batchSize) {
+        em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+    }
+
+    private void flushAndClear() {
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * 대량 저장 결과.
+     */
+    @Getter
+    public static class Result {
+        private final int teams;
+        private final int members;
+        private final long elapsedNanos;
+
+        Result(int teams, int members, long elapsedNanos) {
+            this.teams = teams;
+            this.members = members;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        public double getEntitiesPerSecond() {
+            return elapsedNanos == 0 ? 0 : (teams + members) * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
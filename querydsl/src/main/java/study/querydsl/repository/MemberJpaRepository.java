@@ -2,16 +2,21 @@ package study.querydsl.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
+import study.querydsl.cache.MemberSearchCache;
+import study.querydsl.cache.MemberSearchCacheInvalidator;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.dto.QMemberTeamDto;
 import study.querydsl.entity.Member;
 import study.querydsl.entity.QMember;
 import study.querydsl.entity.QTeam;
+import study.querydsl.entity.Team;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,15 +39,22 @@ public class MemberJpaRepository {
 
     private final EntityManager em;
     private final JPAQueryFactory jpaQueryFactory;
+    private final MemberSearchCache searchCache;
+    private final MemberSearchCacheInvalidator searchCacheInvalidator;
 
     /**
      * {@code MemberJpaRepository} 생성자.
      *
-     * @param em JPA {@link EntityManager} 인스턴스
+     * @param em                     JPA {@link EntityManager} 인스턴스
+     * @param searchCache            검색 결과 캐시
+     * @param searchCacheInvalidator 벌크 연산 후 검색 캐시 무효화
      */
-    public MemberJpaRepository(EntityManager em) {
+    public MemberJpaRepository(EntityManager em, MemberSearchCache searchCache,
+                               MemberSearchCacheInvalidator searchCacheInvalidator) {
         this.em = em;
         this.jpaQueryFactory = new JPAQueryFactory(em);
+        this.searchCache = searchCache;
+        this.searchCacheInvalidator = searchCacheInvalidator;
     }
 
     /**
@@ -97,6 +109,38 @@ public class MemberJpaRepository {
                 .fetch();
     }
 
+    /**
+     * Querydsl fetch join 으로 모든 {@link Member}와 소속 {@link Team}을 한 번에 조회합니다.
+     *
+     * <p>조회 후 {@code member.getTeam().getName()}에 접근해도 추가 쿼리가 발생하지 않습니다.
+     * 팀이 없는 회원도 포함하도록 left join 을 사용합니다.</p>
+     *
+     * @return 팀이 초기화된 전체 회원 목록
+     */
+    public List<Member> findAllWithTeam_Querydsl() {
+        return jpaQueryFactory
+                .selectFrom(member)
+                .leftJoin(member.team, team).fetchJoin()
+                .fetch();
+    }
+
+    /**
+     * Querydsl fetch join 으로 모든 {@link Team}과 소속 회원 컬렉션을 한 번에 조회합니다.
+     *
+     * <p>컬렉션 fetch join 은 팀 행이 회원 수만큼 늘어나므로 distinct 로 중복 팀을 제거합니다.
+     * 행 수가 늘어나 페이징에는 사용할 수 없으므로, 페이징이 필요하면 배치 페치
+     * ({@code hibernate.default_batch_fetch_size})에 맡깁니다.</p>
+     *
+     * @return 회원 컬렉션이 초기화된 전체 팀 목록
+     */
+    public List<Team> findAllTeamsWithMembers_Querydsl() {
+        return jpaQueryFactory
+                .selectFrom(team)
+                .distinct()
+                .leftJoin(team.members, member).fetchJoin()
+                .fetch();
+    }
+
     /**
      * Querydsl을 사용하여 사용자 이름으로 {@link Member} 엔티티를 조회합니다.
      *
@@ -146,21 +190,33 @@ public class MemberJpaRepository {
         }
 
         // 조건이 조립된 BooleanBuilder를 where 절에 적용하여 조회 실행
-        return jpaQueryFactory
+        JPAQuery<MemberTeamDto> query = jpaQueryFactory
                 .select(new QMemberTeamDto(
                         member.id,           // 회원 ID
                         member.username,     // 회원 이름
                         member.age,          // 회원 나이
                         team.id,             // 팀 ID
                         team.name))          // 팀 이름
-                .from(member)
-                .leftJoin(member.team, team) // 회원과 팀을 left join
+                .from(member);
+        return joinTeam(query, StringUtils.hasText(memberSearchCondition.getTeamName())) // 회원과 팀을 조인
                 .where(builder)              // 동적 조건 적용
                 .fetch();                    // 결과 조회 및 반환
     }
 
+    /**
+     * Where 절 파라미터 방식의 동적 쿼리로 회원/팀 정보를 조회합니다.
+     *
+     * <p>같은 조건의 결과는 {@link MemberSearchCache}에서 재사용합니다.</p>
+     *
+     * @param memberSearchCondition 검색 조건
+     * @return 검색 조건에 해당하는 {@link MemberTeamDto} 리스트
+     */
     public List<MemberTeamDto> search(MemberSearchCondition memberSearchCondition) {
-        return jpaQueryFactory
+        return searchCache.get(memberSearchCondition, this::searchFromDb);
+    }
+
+    private List<MemberTeamDto> searchFromDb(MemberSearchCondition memberSearchCondition) {
+        JPAQuery<MemberTeamDto> query = jpaQueryFactory
                 .select(new QMemberTeamDto(
                         member.id,
                         member.username,
@@ -168,8 +224,8 @@ public class MemberJpaRepository {
                         team.id,
                         team.name
                 ))
-                .from(member)
-                .leftJoin(member.team, team)
+                .from(member);
+        return joinTeam(query, !StringUtils.isEmpty(memberSearchCondition.getTeamName()))
                 .where(usernameEq(memberSearchCondition.getUsername()),
                         teamNameEq(memberSearchCondition.getTeamName()),
                         ageGoe(memberSearchCondition.getAgeGoe()),
@@ -177,6 +233,106 @@ public class MemberJpaRepository {
                 .fetch();
     }
 
+    /**
+     * 검색 조건에 해당하는 회원의 나이를 {@code delta}만큼 한 번의 update 문으로 변경합니다.
+     *
+     * <p>벌크 연산은 영속성 컨텍스트를 거치지 않고 DB에 바로 실행되므로,
+     * 실행 전에 flush 하여 쓰기 지연된 변경을 먼저 반영하고 실행 후 clear 하여
+     * 이미 로딩된 엔티티가 변경 전 값을 돌려주지 않게 합니다.
+     * 엔티티 리스너도 호출되지 않으므로 검색 캐시를 직접 무효화합니다.</p>
+     *
+     * <p>조건이 모두 비어 있으면 전체 회원이 대상입니다.</p>
+     *
+     * @param memberSearchCondition 대상 회원 검색 조건
+     * @param delta                 더할 나이 (음수면 감소)
+     * @return 변경된 회원 수
+     */
+    public long bulkAddAge(MemberSearchCondition memberSearchCondition, int delta) {
+        em.flush();
+        long count = jpaQueryFactory
+                .update(member)
+                .set(member.age, member.age.add(delta))
+                .where(bulkCondition(memberSearchCondition))
+                .execute();
+        afterBulk();
+        return count;
+    }
+
+    /**
+     * 검색 조건에 해당하는 회원을 {@code teamId} 팀으로 한 번의 update 문으로 옮깁니다.
+     * flush/clear 및 캐시 무효화는 {@link #bulkAddAge}와 같습니다.
+     *
+     * @param memberSearchCondition 대상 회원 검색 조건
+     * @param teamId                옮길 팀 ID
+     * @return 변경된 회원 수
+     * @throws org.springframework.dao.InvalidDataAccessApiUsageException 팀이 존재하지 않는 경우
+     *         ({@code @Repository} 예외 변환이 {@link IllegalArgumentException}을 감쌉니다)
+     */
+    public long bulkMoveTeam(MemberSearchCondition memberSearchCondition, Long teamId) {
+        em.flush();
+        Team targetTeam = em.find(Team.class, teamId);
+        if (targetTeam == null) {
+            throw new IllegalArgumentException("team not found teamId=" + teamId);
+        }
+        long count = jpaQueryFactory
+                .update(member)
+                .set(member.team, targetTeam)
+                .where(bulkCondition(memberSearchCondition))
+                .execute();
+        afterBulk();
+        return count;
+    }
+
+    /**
+     * 검색 조건에 해당하는 회원을 한 번의 delete 문으로 삭제합니다.
+     * flush/clear 및 캐시 무효화는 {@link #bulkAddAge}와 같습니다.
+     *
+     * @param memberSearchCondition 대상 회원 검색 조건
+     * @return 삭제된 회원 수
+     */
+    public long bulkDelete(MemberSearchCondition memberSearchCondition) {
+        em.flush();
+        long count = jpaQueryFactory
+                .delete(member)
+                .where(bulkCondition(memberSearchCondition))
+                .execute();
+        afterBulk();
+        return count;
+    }
+
+    /**
+     * 벌크 update/delete 용 where 조건.
+     * JPQL update/delete 는 join 을 쓸 수 없으므로 팀명 조건은 서브쿼리로 바꿉니다.
+     */
+    private BooleanExpression[] bulkCondition(MemberSearchCondition memberSearchCondition) {
+        return new BooleanExpression[]{
+                usernameEq(memberSearchCondition.getUsername()),
+                teamNameIn(memberSearchCondition.getTeamName()),
+                ageGoe(memberSearchCondition.getAgeGoe()),
+                ageLoe(memberSearchCondition.getAgeLoe())};
+    }
+
+    private void afterBulk() {
+        em.clear();
+        searchCacheInvalidator.invalidate();
+    }
+
+    private BooleanExpression teamNameIn(String teamName) {
+        return StringUtils.isEmpty(teamName) ? null : member.team.id.in(
+                JPAExpressions
+                        .select(team.id)
+                        .from(team)
+                        .where(team.name.eq(teamName)));
+    }
+
+    /**
+     * 팀 이름 조건이 있으면 팀이 없는 회원은 어차피 걸러지므로 inner join 으로 바꿔,
+     * 옵티마이저가 team.name 인덱스로 팀을 먼저 찾을 수 있게 합니다. 조건이 없으면 left join 입니다.
+     */
+    private static <T> JPAQuery<T> joinTeam(JPAQuery<T> query, boolean teamNameCondition) {
+        return teamNameCondition ? query.join(member.team, team) : query.leftJoin(member.team, team);
+    }
+
     private BooleanExpression usernameEq(String username) {
         return StringUtils.isEmpty(username) ? null : member.username.eq(username);
     }
@@ -2,10 +2,12 @@ package study.querydsl.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 // 사용자 정의 인터페이스
 public interface MemberRepositoryCustom {
@@ -14,5 +16,11 @@ public interface MemberRepositoryCustom {
     Page<MemberTeamDto> searchPageSimple(MemberSearchCondition memberSearchCondition, Pageable pageable);
     Page<MemberTeamDto> searchPageComplex(MemberSearchCondition memberSearchCondition, Pageable pageable);
 
+    // member.id 기준 keyset 페이지 (카운트 쿼리 없음), lastMemberId 가 null 이면 첫 페이지
+    Slice<MemberTeamDto> searchSlice(MemberSearchCondition memberSearchCondition, Long lastMemberId, int size);
+
+    // 전체 결과를 리스트로 만들지 않고 한 건씩 읽는 스트림 (트랜잭션 안에서 사용, 다 쓰면 close)
+    Stream<MemberTeamDto> streamSearch(MemberSearchCondition memberSearchCondition);
+
 
 }
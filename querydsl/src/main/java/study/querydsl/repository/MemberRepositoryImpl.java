@@ -1,20 +1,24 @@
 package study.querydsl.repository;
 
-import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
+import study.querydsl.cache.MemberSearchCache;
 import study.querydsl.dto.MemberSearchCondition;
 import study.querydsl.dto.MemberTeamDto;
 import study.querydsl.dto.QMemberTeamDto;
-import study.querydsl.entity.Member;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.apache.logging.log4j.util.Strings.isEmpty;
 import static study.querydsl.entity.QMember.member;
@@ -22,98 +26,149 @@ import static study.querydsl.entity.QTeam.team;
 
 public class MemberRepositoryImpl implements MemberRepositoryCustom {
 
+    // 스트리밍 조회 시 JDBC 드라이버가 한 번에 가져오는 행 수
+    static final int STREAM_FETCH_SIZE = 500;
     private final JPAQueryFactory queryFactory;
+    private final MemberSearchCache searchCache;
 
-    public MemberRepositoryImpl(EntityManager em) {
+    public MemberRepositoryImpl(EntityManager em, MemberSearchCache searchCache) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.searchCache = searchCache;
     }
 
     @Override
     //회원명, 팀명, 나이(ageGoe, ageLoe)
     public List<MemberTeamDto> search(MemberSearchCondition condition) {
-        return queryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.username,
-                        member.age,
-                        team.id,
-                        team.name))
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe()))
-                .fetch();
+        // 같은 조건의 반복 검색은 캐시에서 응답 (MemberSearchCache)
+        return searchCache.get(condition, this::searchFromDb);
     }
 
+    private List<MemberTeamDto> searchFromDb(MemberSearchCondition condition) {
+        return contentQuery(condition).fetch();
+    }
+
+    /**
+     * 컨텐츠 쿼리와 카운트 쿼리를 항상 함께 실행합니다 (2회).
+     * 정렬이 없으면 offset 페이지 경계가 실행 계획에 따라 달라지므로 member.id 순으로 정렬합니다.
+     * 카운트는 {@link #countQuery(MemberSearchCondition)}의 가벼운 count 쿼리를 사용합니다.
+     */
     @Override
     public Page<MemberTeamDto> searchPageSimple(MemberSearchCondition condition, Pageable pageable) {
-        QueryResults<MemberTeamDto> results = queryFactory
-                .select(new QMemberTeamDto(
-                        member.id,
-                        member.username,
-                        member.age,
-                        team.id,
-                        team.name))
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe()))
+        List<MemberTeamDto> content = contentQuery(condition)
+                .orderBy(member.id.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
-
-        List<MemberTeamDto> content = results.getResults();
-        long total = results.getTotal();
+                .fetch();
+        long total = countQuery(condition).fetchOne();
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * 첫 페이지가 페이지 크기보다 작거나 마지막 페이지인 경우처럼 전체 건수를 알 수 있으면
+     * {@link PageableExecutionUtils}가 카운트 쿼리를 생략합니다. 정렬은 {@link #searchPageSimple}과 같습니다.
+     */
     @Override
     public Page<MemberTeamDto> searchPageComplex(MemberSearchCondition condition,
                                                  Pageable pageable) {
-        List<MemberTeamDto> content = queryFactory
+        List<MemberTeamDto> content = contentQuery(condition)
+                .orderBy(member.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        JPAQuery<Long> countQuery = countQuery(condition);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                countQuery::fetchOne);
+    }
+
+    /**
+     * member.id 기준 keyset(seek) 페이지를 조회합니다.
+     *
+     * <p>offset 대신 {@code member.id > lastMemberId} 조건으로 PK 인덱스의 다음 위치부터 읽으므로
+     * 페이지가 깊어져도 비용이 일정합니다. size + 1 건을 조회해 다음 페이지 존재 여부를 판단하므로
+     * 카운트 쿼리를 실행하지 않습니다.</p>
+     */
+    @Override
+    public Slice<MemberTeamDto> searchSlice(MemberSearchCondition condition, Long lastMemberId, int size) {
+        List<MemberTeamDto> content = contentQuery(condition)
+                .where(memberIdGt(lastMemberId))
+                .orderBy(member.id.asc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * 검색 결과를 member.id 순으로 한 건씩 읽는 스트림을 돌려줍니다.
+     *
+     * <p>Hibernate 는 결과 스트림을 forward-only {@code ScrollableResults} 위에서 만들므로
+     * 결과 전체가 메모리에 올라가지 않습니다. 드라이버 fetch size 는 {@link #STREAM_FETCH_SIZE},
+     * 읽기 전용 힌트로 스냅샷을 만들지 않습니다. 결과는 DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않으므로
+     * 중간에 비우지 않습니다.</p>
+     *
+     * <p>커서가 열려 있어야 하므로 트랜잭션 안에서 소비하고, 다 쓰면 반드시 close 해야 합니다
+     * (try-with-resources). 캐시는 거치지 않습니다.</p>
+     */
+    @Override
+    public Stream<MemberTeamDto> streamSearch(MemberSearchCondition condition) {
+        return contentQuery(condition)
+                .orderBy(member.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    /**
+     * 검색 컨텐츠 쿼리.
+     * 팀 이름 조건이 있으면 팀이 없는 회원은 어차피 걸러지므로 inner join 으로 바꿔,
+     * 옵티마이저가 team.name 인덱스로 팀을 먼저 찾고 member.team_id 로 회원을 읽을 수 있게 합니다
+     * (left join 이면 member 를 먼저 전부 읽어야 합니다).
+     */
+    private JPAQuery<MemberTeamDto> contentQuery(MemberSearchCondition condition) {
+        JPAQuery<MemberTeamDto> query = queryFactory
                 .select(new QMemberTeamDto(
                         member.id,
                         member.username,
                         member.age,
                         team.id,
                         team.name))
-                .from(member)
-                .leftJoin(member.team, team)
+                .from(member);
+        if (isEmpty(condition.getTeamName())) {
+            query.leftJoin(member.team, team);
+        } else {
+            query.join(member.team, team);
+        }
+        return query
                 .where(usernameEq(condition.getUsername()),
                         teamNameEq(condition.getTeamName()),
                         ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        long total = queryFactory
-                .select(member)
-                .from(member)
-                .leftJoin(member.team, team)
-                .where(usernameEq(condition.getUsername()),
-                        teamNameEq(condition.getTeamName()),
-                        ageGoe(condition.getAgeGoe()),
-                        ageLoe(condition.getAgeLoe()))
-                .fetchCount();
-        // return new PageImpl<>(content, pageable, total);
-        JPAQuery<Member> countQuery = queryFactory
-                .select(member)
-                .from(member)
-                .leftJoin(member.team, team)
+                        ageLoe(condition.getAgeLoe()));
+    }
+
+    /**
+     * select count(member.id) 카운트 쿼리.
+     * member → team 은 N:1 이라 left join 이 건수를 바꾸지 않으므로 팀 이름 조건이 있을 때만 조인합니다.
+     * 이때는 {@link #contentQuery}와 같은 이유로 inner join 을 사용합니다.
+     */
+    private JPAQuery<Long> countQuery(MemberSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory
+                .select(member.count())
+                .from(member);
+        if (!isEmpty(condition.getTeamName())) {
+            query.join(member.team, team);
+        }
+        return query
                 .where(usernameEq(condition.getUsername()),
                         teamNameEq(condition.getTeamName()),
                         ageGoe(condition.getAgeGoe()),
                         ageLoe(condition.getAgeLoe()));
-
-        return PageableExecutionUtils.getPage(content, pageable,
-                countQuery::fetchCount);
     }
 
-
     private BooleanExpression usernameEq(String username) {
         return isEmpty(username) ? null : member.username.eq(username);
     }
@@ -126,5 +181,8 @@ public class MemberRepositoryImpl implements MemberRepositoryCustom {
     private BooleanExpression ageLoe(Integer ageLoe) {
         return ageLoe == null ? null : member.age.loe(ageLoe);
     }
+    private BooleanExpression memberIdGt(Long lastMemberId) {
+        return lastMemberId == null ? null : member.id.gt(lastMemberId);
+    }
 
 }
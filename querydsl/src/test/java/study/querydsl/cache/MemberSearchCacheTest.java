@@ -0,0 +1,184 @@
+package study.querydsl.cache;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberRepository;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link MemberSearchCache}가 같은 검색 조건을 캐시에서 응답하고,
+ * Member/Team 변경이 커밋되면 무효화되는지 검증한다.
+ *
+ * 캐시는 쓰기 트랜잭션 밖에서만 동작하므로 클래스 전체를 트랜잭션으로 묶지 않고,
+ * 데이터는 {@link TransactionTemplate}으로 커밋한 뒤 테스트가 끝나면 직접 지운다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+class MemberSearchCacheTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberSearchCache memberSearchCache;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate tx;
+    Long teamBId;
+
+    @BeforeEach
+    public void before() {
+        tx = new TransactionTemplate(transactionManager);
+        memberSearchCache.invalidateAll();
+        tx.executeWithoutResult(status -> {
+            Team teamA = new Team("teamA");
+            Team teamB = new Team("teamB");
+            em.persist(teamA);
+            em.persist(teamB);
+            em.persist(new Member("member1", 10, teamA));
+            em.persist(new Member("member2", 20, teamA));
+            em.persist(new Member("member3", 30, teamB));
+            em.persist(new Member("member4", 40, teamB));
+            teamBId = teamB.getId();
+        });
+    }
+
+    @AfterEach
+    public void after() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from Member").executeUpdate();
+            em.createQuery("delete from Team").executeUpdate();
+        });
+        memberSearchCache.invalidateAll();
+    }
+
+    @Test
+    public void repeatedSearchIsServedFromCache() {
+        MemberSearchCondition condition = teamBCondition();
+        long hits = memberSearchCache.stats().hitCount();
+
+        List<MemberTeamDto> first = memberRepository.search(condition);
+        List<MemberTeamDto> second = memberRepository.search(condition);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second).extracting("username").containsExactly("member3", "member4");
+        assertThat(memberSearchCache.stats().hitCount() - hits).isEqualTo(1);
+    }
+
+    @Test
+    public void emptyStringConditionSharesKeyWithNull() {
+        MemberSearchCondition withNull = teamBCondition();
+        MemberSearchCondition withEmpty = teamBCondition();
+        withEmpty.setUsername("");
+        long hits = memberSearchCache.stats().hitCount();
+
+        memberRepository.search(withNull);
+        memberRepository.search(withEmpty);
+
+        assertThat(memberSearchCache.stats().hitCount() - hits).isEqualTo(1);
+    }
+
+    @Test
+    public void committedChangeInvalidatesCache() {
+        MemberSearchCondition condition = teamBCondition();
+        assertThat(memberRepository.search(condition)).hasSize(2);
+
+        tx.executeWithoutResult(status -> {
+            Team teamB = em.find(Team.class, teamBId);
+            em.persist(new Member("member5", 50, teamB));
+        });
+        assertThat(memberRepository.search(condition)).extracting("username")
+                .containsExactly("member3", "member4", "member5");
+
+        tx.executeWithoutResult(status -> {
+            Member member5 = memberRepository.findByUsername("member5").get(0);
+            member5.setAge(5);
+        });
+        assertThat(memberRepository.search(condition)).hasSize(2);
+    }
+
+    @Test
+    public void readWriteTransactionBypassesCache() {
+        MemberSearchCondition condition = teamBCondition();
+        memberRepository.search(condition);
+        long requests = memberSearchCache.stats().requestCount();
+
+        tx.executeWithoutResult(status -> {
+            Team teamB = em.find(Team.class, teamBId);
+            em.persist(new Member("member6", 60, teamB));
+            // 아직 flush 되지 않은 member6 도 보여야 한다
+            assertThat(memberRepository.search(condition)).hasSize(3);
+        });
+
+        assertThat(memberSearchCache.stats().requestCount()).isEqualTo(requests);
+    }
+
+    @Test
+    public void returnedDtoIsCopy() {
+        MemberSearchCondition condition = teamBCondition();
+        memberRepository.search(condition).get(0).setUsername("changed");
+
+        assertThat(memberRepository.search(condition).get(0).getUsername()).isEqualTo("member3");
+    }
+
+    @Test
+    public void loadStartedBeforeInvalidationIsNotServed() throws InterruptedException {
+        MemberSearchCache cache = new MemberSearchCache(new MemberSearchCacheProperties());
+        MemberSearchCondition condition = teamBCondition();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+
+        // 커밋 전 데이터를 읽는 중인 조회
+        Thread reader = new Thread(() -> cache.get(condition, c -> {
+            loading.countDown();
+            awaitQuietly(committed);
+            return List.of(new MemberTeamDto(3L, "stale", 30, 2L, "teamB"));
+        }));
+        reader.start();
+        loading.await();
+        // 조회가 끝나기 전에 커밋 후 무효화가 일어난다
+        cache.invalidateAll();
+        committed.countDown();
+        reader.join();
+
+        List<MemberTeamDto> result = cache.get(condition,
+                c -> List.of(new MemberTeamDto(3L, "fresh", 30, 2L, "teamB")));
+
+        assertThat(result).extracting("username").containsExactly("fresh");
+        assertThat(cache.get(condition, c -> List.of())).extracting("username").doesNotContain("stale");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private MemberSearchCondition teamBCondition() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("teamB");
+        condition.setAgeGoe(25);
+        return condition;
+    }
+}
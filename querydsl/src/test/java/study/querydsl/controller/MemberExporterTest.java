@@ -0,0 +1,130 @@
+package study.querydsl.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.repository.MemberRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link MemberRepository#streamSearch}와 {@link MemberExporter}의 NDJSON/CSV 출력을 검증한다.
+ *
+ * exportTeam 에 회원 1,500명(fetch size 보다 많게)과 이름에 쉼표·따옴표가 있는 회원 1명을 저장한다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+class MemberExporterTest {
+
+    static final int MEMBERS = 1_500;
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberExporter memberExporter;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    MemberSearchCondition condition;
+
+    @BeforeEach
+    public void before() {
+        Team team = new Team("exportTeam");
+        em.persist(team);
+        for (int i = 0; i < MEMBERS; i++) {
+            em.persist(new Member("export" + i, i % 100, team));
+        }
+        em.persist(new Member("kim, \"jr\"", 7, team));
+        em.flush();
+        em.clear();
+
+        condition = new MemberSearchCondition();
+        condition.setTeamName("exportTeam");
+    }
+
+    @Test
+    public void streamSearchReadsAllRowsInIdOrder() {
+        List<Long> ids;
+        try (Stream<MemberTeamDto> stream = memberRepository.streamSearch(condition)) {
+            ids = stream.map(MemberTeamDto::getMemberId).collect(Collectors.toList());
+        }
+
+        assertThat(ids).hasSize(MEMBERS + 1);
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    public void streamSearchKeepsCallersEntitiesManaged() {
+        Member loaded = memberRepository.findByUsername("export0").get(0);
+
+        try (Stream<MemberTeamDto> stream = memberRepository.streamSearch(condition)) {
+            assertThat(stream.count()).isEqualTo(MEMBERS + 1);
+        }
+
+        assertThat(em.contains(loaded)).isTrue();
+    }
+
+    @Test
+    public void exportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = memberExporter.export(condition, MemberExporter.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(MEMBERS + 1);
+        assertThat(lines.length).isEqualTo(MEMBERS + 1);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("username").asText()).isEqualTo("export0");
+        assertThat(first.get("teamName").asText()).isEqualTo("exportTeam");
+    }
+
+    @Test
+    public void exportCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        memberExporter.export(condition, MemberExporter.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines.length).isEqualTo(MEMBERS + 2);
+        assertThat(lines[0]).isEqualTo("memberId,username,age,teamId,teamName");
+        assertThat(lines[1]).contains(",export0,0,");
+        assertThat(lines[lines.length - 1]).contains(",\"kim, \"\"jr\"\"\",7,");
+    }
+
+    @Test
+    public void csvField() {
+        assertThat(MemberExporter.csv(null)).isEqualTo("");
+        assertThat(MemberExporter.csv(10)).isEqualTo("10");
+        assertThat(MemberExporter.csv("a,b")).isEqualTo("\"a,b\"");
+        assertThat(MemberExporter.csv("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+    }
+
+    @Test
+    public void unknownFormat() {
+        assertThat(MemberExporter.Format.from("CSV")).isEqualTo(MemberExporter.Format.CSV);
+        assertThatThrownBy(() -> MemberExporter.Format.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
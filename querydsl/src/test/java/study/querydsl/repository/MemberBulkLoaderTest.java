@@ -0,0 +1,101 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.entity.Member;
+import study.querydsl.support.SqlStatementCounter;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * {@link MemberBulkLoader}가 생성 규칙대로 저장하고, insert 를 JDBC 배치로 묶는지 검증한다.
+ *
+ * 테스트 트랜잭션 안에서 실행하면 로더의 청크 트랜잭션이 여기에 참여하므로 끝나면 롤백된다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlStatementCounter.class)
+class MemberBulkLoaderTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberBulkLoader memberBulkLoader;
+    @Autowired
+    SqlStatementCounter sqlCounter;
+
+    @Test
+    public void loadsTeamsAndMembers() {
+        long before = countMembers();
+
+        MemberBulkLoader.Result result = memberBulkLoader.load(3, 250, 100);
+
+        assertThat(result.getTeams()).isEqualTo(3);
+        assertThat(result.getMembers()).isEqualTo(250);
+        assertThat(countMembers() - before).isEqualTo(250);
+
+        List<Member> members = em.createQuery(
+                        "select m from Member m join fetch m.team where m.username in :names", Member.class)
+                .setParameter("names", List.of("member0", "member1", "member149"))
+                .getResultList();
+        assertThat(members).extracting(Member::getUsername, Member::getAge, m -> m.getTeam().getName())
+                .containsExactlyInAnyOrder(
+                        tuple("member0", 0, "teamA"),
+                        tuple("member1", 1, "teamB"),
+                        tuple("member149", 49, "teamC"));
+    }
+
+    @Test
+    public void membersAreInsertedInJdbcBatches() {
+        int memberCount = 1_200;
+        int flushSize = 500;
+        sqlCounter.reset();
+
+        memberBulkLoader.load(2, memberCount, flushSize);
+
+        // 회원 insert 는 청크(500, 500, 200)마다 executeBatch 한 번
+        assertThat(countStatements("insert into member")).isEqualTo((memberCount + flushSize - 1) / flushSize);
+        assertThat(countStatements("insert into team")).isEqualTo(1);
+        // allocationSize 가 크므로 시퀀스 조회는 insert 수에 비례하지 않는다
+        assertThat(sqlCounter.count()).isLessThan(20);
+    }
+
+    @Test
+    public void teamNamesFollowSampleDataConvention() {
+        assertThat(MemberBulkLoader.teamName(0)).isEqualTo("teamA");
+        assertThat(MemberBulkLoader.teamName(1)).isEqualTo("teamB");
+        assertThat(MemberBulkLoader.teamName(25)).isEqualTo("teamZ");
+        assertThat(MemberBulkLoader.teamName(26)).isEqualTo("team26");
+    }
+
+    @Test
+    public void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> memberBulkLoader.load(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberBulkLoader.load(1, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long countMembers() {
+        return em.createQuery("select count(m) from Member m", Long.class).getSingleResult();
+    }
+
+    private long countStatements(String prefix) {
+        return sqlCounter.getStatements().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .count();
+    }
+}
@@ -0,0 +1,106 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.support.SqlStatementCounter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Member → Team, Team → members 지연 로딩에서 N+1 이 발생하지 않는지 p6spy 로 실행 SQL 수를 세어 검증한다.
+ *
+ * 팀 4개에 회원 10명씩을 저장하고 영속성 컨텍스트를 비운 뒤 측정한다.
+ * 배치 페치({@code hibernate.default_batch_fetch_size})가 켜져 있으면 연관 엔티티는 IN 절 한 번으로,
+ * fetch join 변형은 처음 조회 한 번으로 모두 로딩된다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlStatementCounter.class)
+class MemberFetchStrategyTest {
+
+    static final int TEAMS = 4;
+    static final int MEMBERS_PER_TEAM = 10;
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+    @Autowired
+    SqlStatementCounter sqlCounter;
+
+    @BeforeEach
+    public void before() {
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = new Team("team" + t);
+            em.persist(team);
+            for (int i = 0; i < MEMBERS_PER_TEAM; i++) {
+                em.persist(new Member("member" + t + "_" + i, i, team));
+            }
+        }
+        em.flush();
+        em.clear();
+        sqlCounter.reset();
+    }
+
+    @Test
+    public void memberTeamIsBatchFetched() {
+        List<Member> members = memberJpaRepository.findAll();
+        for (Member member : members) {
+            assertThat(member.getTeam().getName()).startsWith("team");
+        }
+
+        assertThat(members).hasSize(TEAMS * MEMBERS_PER_TEAM);
+        // 회원 조회 1 + 팀 IN 조회 1 (배치 페치가 없으면 1 + TEAMS)
+        assertThat(sqlCounter.selectCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void teamMembersAreBatchFetched() {
+        List<Team> teams = em.createQuery("select t from Team t", Team.class).getResultList();
+        int total = 0;
+        for (Team team : teams) {
+            total += team.getMembers().size();
+        }
+
+        assertThat(total).isEqualTo(TEAMS * MEMBERS_PER_TEAM);
+        // 팀 조회 1 + 회원 컬렉션 IN 조회 1
+        assertThat(sqlCounter.selectCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void memberFetchJoinLoadsTeamInOneQuery() {
+        List<Member> members = memberJpaRepository.findAllWithTeam_Querydsl();
+        for (Member member : members) {
+            assertThat(member.getTeam().getName()).startsWith("team");
+        }
+
+        assertThat(members).hasSize(TEAMS * MEMBERS_PER_TEAM);
+        assertThat(sqlCounter.selectCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void teamFetchJoinLoadsMembersInOneQuery() {
+        List<Team> teams = memberJpaRepository.findAllTeamsWithMembers_Querydsl();
+        int total = 0;
+        for (Team team : teams) {
+            total += team.getMembers().size();
+        }
+
+        assertThat(teams).hasSize(TEAMS);
+        assertThat(total).isEqualTo(TEAMS * MEMBERS_PER_TEAM);
+        assertThat(sqlCounter.selectCount()).isEqualTo(1);
+    }
+}
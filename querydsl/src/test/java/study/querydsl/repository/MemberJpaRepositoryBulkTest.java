@@ -0,0 +1,148 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link MemberJpaRepository}의 벌크 update/delete 가 검색 조건대로 한 번에 반영되고,
+ * 실행 전후 flush/clear 로 영속성 컨텍스트와 DB 가 어긋나지 않는지 검증한다.
+ *
+ * bulkA 에 bulk1(10), bulk2(20), bulkB 에 bulk3(30), bulk4(40)을 저장하고 시작한다.
+ * 다른 테스트가 커밋해 둔 teamA/teamB 회원이 있을 수 있으므로 이름을 겹치지 않게 하고,
+ * 벌크 조건에는 항상 팀명이나 회원명을 넣어 이 테스트의 회원만 대상이 되게 한다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+class MemberJpaRepositoryBulkTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberJpaRepository memberJpaRepository;
+
+    Team teamA;
+    Team teamB;
+    Member member1;
+
+    @BeforeEach
+    public void before() {
+        teamA = new Team("bulkA");
+        teamB = new Team("bulkB");
+        em.persist(teamA);
+        em.persist(teamB);
+
+        member1 = new Member("bulk1", 10, teamA);
+        em.persist(member1);
+        em.persist(new Member("bulk2", 20, teamA));
+        em.persist(new Member("bulk3", 30, teamB));
+        em.persist(new Member("bulk4", 40, teamB));
+    }
+
+    @Test
+    public void bulkAddAgeByTeamName() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("bulkA");
+
+        long count = memberJpaRepository.bulkAddAge(condition, 5);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(agesOf("bulkA")).containsExactly(15, 25);
+        assertThat(agesOf("bulkB")).containsExactly(30, 40);
+    }
+
+    @Test
+    public void managedEntityIsNotStaleAfterBulk() {
+        Long id = member1.getId();
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setUsername("bulk1");
+
+        memberJpaRepository.bulkAddAge(condition, 1);
+
+        // clear 되었으므로 1차 캐시의 age=10 이 아니라 DB 값을 다시 읽는다
+        Member reloaded = memberJpaRepository.findById(id).get();
+        assertThat(reloaded).isNotSameAs(member1);
+        assertThat(reloaded.getAge()).isEqualTo(11);
+    }
+
+    @Test
+    public void pendingChangesAreFlushedBeforeBulk() {
+        // flush 되지 않은 변경과 신규 회원도 벌크 연산 대상이어야 한다
+        member1.setAge(35);
+        em.persist(new Member("bulk5", 50, teamA));
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("bulkA");
+        condition.setAgeGoe(35);
+
+        long count = memberJpaRepository.bulkAddAge(condition, -5);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(agesOf("bulkA")).containsExactly(30, 20, 45);
+    }
+
+    @Test
+    public void bulkMoveTeam() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("bulkA");
+        condition.setAgeGoe(20);
+        condition.setAgeLoe(30);
+
+        long count = memberJpaRepository.bulkMoveTeam(condition, teamB.getId());
+
+        assertThat(count).isEqualTo(1);
+        assertThat(usernamesOf("bulkA")).containsExactly("bulk1");
+        assertThat(usernamesOf("bulkB")).containsExactly("bulk2", "bulk3", "bulk4");
+
+        Team reloaded = em.find(Team.class, teamB.getId());
+        assertThat(reloaded.getMembers()).hasSize(3);
+    }
+
+    @Test
+    public void bulkMoveTeamToUnknownTeam() {
+        // @Repository 예외 변환으로 스프링 DataAccessException 이 된다
+        assertThatThrownBy(() -> memberJpaRepository.bulkMoveTeam(new MemberSearchCondition(), -1L))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void bulkDelete() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("bulkB");
+        condition.setAgeGoe(35);
+
+        long count = memberJpaRepository.bulkDelete(condition);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(usernamesOf("bulkB")).containsExactly("bulk3");
+        assertThat(memberJpaRepository.findByUsername("bulk4")).isEmpty();
+    }
+
+    private List<Integer> agesOf(String teamName) {
+        return em.createQuery("select m.age from Member m where m.team.name = :teamName order by m.id", Integer.class)
+                .setParameter("teamName", teamName)
+                .getResultList();
+    }
+
+    private List<String> usernamesOf(String teamName) {
+        return em.createQuery("select m.username from Member m where m.team.name = :teamName order by m.id", String.class)
+                .setParameter("teamName", teamName)
+                .getResultList();
+    }
+}
@@ -0,0 +1,84 @@
+package study.querydsl.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.support.MemberBulkSeeder;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 깊은 페이지에서 offset 페이지(/v3, searchPageComplex)와 keyset 페이지(/v4, searchSlice)의 지연 시간을 비교한다.
+ *
+ * 회원 100,000명을 넣고 페이지 크기 20 으로 여러 깊이(page 10, 1000, 4000)를 조회해 평균 지연을 출력한다.
+ * 두 방식 모두 member.id 순이므로 같은 페이지는 같은 회원을 돌려준다.
+ * 시간 비교는 환경에 따라 달라지므로 검증하지 않고, 두 방식이 같은 결과를 돌려주는지만 확인한다.
+ *
+ * <pre>./gradlew benchmark --tests MemberPagingBenchmarkTest</pre>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+class MemberPagingBenchmarkTest {
+
+    static final int MEMBERS = 100_000;
+    static final int PAGE_SIZE = 20;
+    static final int WARMUP = 5;
+    static final int ITERATIONS = 20;
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void before() {
+        new MemberBulkSeeder(jdbcTemplate).seed(MEMBERS, 10, MEMBERS);
+    }
+
+    @Test
+    public void offsetVersusKeyset() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        System.out.printf("%8s %14s %14s%n", "page", "offset(us)", "keyset(us)");
+
+        for (int pageNumber : new int[]{10, 1000, 4000}) {
+            PageRequest pageRequest = PageRequest.of(pageNumber, PAGE_SIZE);
+            // ID 를 연속으로 넣었으므로 pageNumber 페이지 직전 회원의 ID 를 바로 계산할 수 있다
+            Long lastMemberId = MemberBulkSeeder.ID_BASE + (long) pageNumber * PAGE_SIZE - 1;
+
+            Page<MemberTeamDto> offsetPage = memberRepository.searchPageComplex(condition, pageRequest);
+            Slice<MemberTeamDto> keysetSlice = memberRepository.searchSlice(condition, lastMemberId, PAGE_SIZE);
+            assertThat(keysetSlice.getContent()).isEqualTo(offsetPage.getContent());
+
+            long offsetMicros = averageMicros(() -> memberRepository.searchPageComplex(condition, pageRequest));
+            long keysetMicros = averageMicros(() -> memberRepository.searchSlice(condition, lastMemberId, PAGE_SIZE));
+            System.out.printf("%8d %14d %14d%n", pageNumber, offsetMicros, keysetMicros);
+        }
+    }
+
+    private static long averageMicros(Supplier<?> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+}
@@ -0,0 +1,114 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.support.SqlStatementCounter;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code searchPageSimple}/{@code searchPageComplex}가 페이지 요청마다 실행하는 SQL 수와
+ * 카운트 쿼리 형태를 p6spy 로 검증한다.
+ *
+ * 회원 100명(teamA 50명, teamB 50명, 나이 0~99)을 저장한 뒤 영속성 컨텍스트를 비우고 측정한다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlStatementCounter.class)
+class MemberRepositoryPagingTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    SqlStatementCounter sqlCounter;
+
+    @BeforeEach
+    public void before() {
+        Team teamA = new Team("teamA");
+        Team teamB = new Team("teamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        for (int i = 0; i < 100; i++) {
+            em.persist(new Member("member" + i, i, i % 2 == 0 ? teamA : teamB));
+        }
+        em.flush();
+        em.clear();
+        sqlCounter.reset();
+    }
+
+    @Test
+    public void simpleAlwaysCountsWithoutJoin() {
+        Page<MemberTeamDto> page = memberRepository.searchPageSimple(new MemberSearchCondition(), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(100);
+        assertThat(sqlCounter.count()).isEqualTo(2);
+        String countSql = lower(sqlCounter.getStatements().get(1));
+        assertThat(countSql).contains("count(");
+        assertThat(countSql).doesNotContain("join");
+    }
+
+    @Test
+    public void countJoinsTeamOnlyForTeamNameFilter() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("teamA");
+
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition, PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(50);
+        assertThat(sqlCounter.count()).isEqualTo(2);
+        assertThat(lower(sqlCounter.getStatements().get(1))).contains("join");
+    }
+
+    @Test
+    public void complexSkipsCountWhenFirstPageIsNotFull() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setAgeGoe(95);
+
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(condition, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(sqlCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void complexSkipsCountOnLastPage() {
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(new MemberSearchCondition(), PageRequest.of(3, 30));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(100);
+        assertThat(sqlCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void complexCountsOnMiddlePage() {
+        Page<MemberTeamDto> page = memberRepository.searchPageComplex(new MemberSearchCondition(), PageRequest.of(1, 30));
+
+        assertThat(page.getTotalElements()).isEqualTo(100);
+        assertThat(sqlCounter.count()).isEqualTo(2);
+    }
+
+    private static String lower(String sql) {
+        return sql.toLowerCase(Locale.ROOT);
+    }
+}
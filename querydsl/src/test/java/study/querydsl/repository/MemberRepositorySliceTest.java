@@ -0,0 +1,102 @@
+package study.querydsl.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.dto.MemberSliceResponse;
+import study.querydsl.dto.MemberTeamDto;
+import study.querydsl.entity.Member;
+import study.querydsl.entity.Team;
+import study.querydsl.support.SqlStatementCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@code searchSlice}(keyset 페이지)와 커서 토큰을 검증한다.
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@SpringBootTest
+@Transactional
+@Import(SqlStatementCounter.class)
+class MemberRepositorySliceTest {
+
+    @Autowired
+    EntityManager em;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    SqlStatementCounter sqlCounter;
+
+    @BeforeEach
+    public void before() {
+        Team teamA = new Team("teamA");
+        Team teamB = new Team("teamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        for (int i = 0; i < 45; i++) {
+            em.persist(new Member("member" + i, i, i % 2 == 0 ? teamA : teamB));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    /**
+     * 커서를 따라가며 전체를 조회하면 search() 결과와 같은 순서/건수가 나오고,
+     * 페이지마다 SQL 은 한 번만 실행된다 (카운트 쿼리 없음).
+     */
+    @Test
+    public void walkAllSlicesWithCursor() {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("teamA");
+
+        List<MemberTeamDto> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            sqlCounter.reset();
+            Slice<MemberTeamDto> slice = memberRepository.searchSlice(condition, MemberSliceResponse.decodeCursor(cursor), 10);
+            assertThat(sqlCounter.count()).isEqualTo(1);
+
+            MemberSliceResponse response = MemberSliceResponse.of(slice);
+            walked.addAll(response.getContent());
+            cursor = response.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(walked).hasSize(23);
+        assertThat(walked).extracting(MemberTeamDto::getMemberId).isSorted();
+        assertThat(walked).extracting(MemberTeamDto::getTeamName).allMatch("teamA"::equals);
+    }
+
+    @Test
+    public void lastFullSliceHasNoNext() {
+        Slice<MemberTeamDto> first = memberRepository.searchSlice(new MemberSearchCondition(), null, 45);
+
+        assertThat(first.getContent()).hasSize(45);
+        assertThat(first.hasNext()).isFalse();
+        assertThat(MemberSliceResponse.of(first).getNextCursor()).isNull();
+    }
+
+    @Test
+    public void cursorToken() {
+        assertThat(MemberSliceResponse.decodeCursor(MemberSliceResponse.encodeCursor(12345L))).isEqualTo(12345L);
+        assertThat(MemberSliceResponse.decodeCursor(null)).isNull();
+        assertThat(MemberSliceResponse.decodeCursor("")).isNull();
+        assertThatThrownBy(() -> MemberSliceResponse.decodeCursor("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
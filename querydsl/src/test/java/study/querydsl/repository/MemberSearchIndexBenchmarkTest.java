@@ -0,0 +1,126 @@
+package study.querydsl.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import study.querydsl.dto.MemberSearchCondition;
+import study.querydsl.support.MemberBulkSeeder;
+import study.querydsl.support.SqlStatementCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 검색 조건(username, teamName, ageGoe, ageLoe)의 모든 조합에 대해 H2 실행 계획과 지연 시간을 출력하고,
+ * 조건이 있는데도 member/team 을 전체 스캔(tableScan)하는 조합이 있으면 실패한다.
+ *
+ * 회원 1,000,000명(팀 100개, 회원명 10,000종)을 넣고, {@code search()}가 실제로 실행한 SQL 을
+ * p6spy 로 잡아 바인딩 값을 채운 뒤 {@code EXPLAIN}으로 계획을 확인한다.
+ * 조건이 하나도 없는 조합은 전체 조회이므로 검사하지 않는다.
+ * 각 조건은 전체의 1~2% 이하만 걸리도록 잡아, 인덱스를 타는 것이 맞는 계획이 되게 한다.
+ *
+ * <pre>./gradlew benchmark --tests MemberSearchIndexBenchmarkTest</pre>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+@Import(SqlStatementCounter.class)
+class MemberSearchIndexBenchmarkTest {
+
+    static final int MEMBERS = 1_000_000;
+    static final int TEAMS = 100;
+    static final int DISTINCT_USERNAMES = 10_000;
+    static final int WARMUP = 1;
+    static final int ITERATIONS = 3;
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    SqlStatementCounter sqlCounter;
+
+    @BeforeEach
+    public void before() {
+        new MemberBulkSeeder(jdbcTemplate).seed(MEMBERS, TEAMS, DISTINCT_USERNAMES);
+    }
+
+    @Test
+    public void everyConditionCombinationUsesAnIndex() {
+        List<String> tableScans = new ArrayList<>();
+
+        // 비트 0: username, 1: teamName, 2: ageGoe, 3: ageLoe
+        for (int mask = 0; mask < 16; mask++) {
+            MemberSearchCondition condition = condition(mask);
+
+            sqlCounter.reset();
+            int rows = memberRepository.search(condition).size();
+            List<String> executed = sqlCounter.getStatementsWithValues();
+            String plan = jdbcTemplate.queryForObject("explain " + executed.get(executed.size() - 1), String.class);
+            long micros = averageMicros(condition);
+
+            System.out.printf("%n[%s] rows=%d, avg=%dus%n%s%n", describe(mask), rows, micros, plan);
+            if (mask != 0 && plan.contains(".tableScan")) {
+                tableScans.add(describe(mask));
+            }
+        }
+
+        assertThat(tableScans).as("table scan for %s", tableScans).isEmpty();
+    }
+
+    private static MemberSearchCondition condition(int mask) {
+        MemberSearchCondition condition = new MemberSearchCondition();
+        if ((mask & 1) != 0) {
+            condition.setUsername("member42");
+        }
+        if ((mask & 2) != 0) {
+            condition.setTeamName("team7");
+        }
+        // 나이는 0~99 균등 분포이므로 범위 조건 하나만 있어도 2% 정도만 걸리게 잡는다
+        // (ageGoe 30 처럼 넓으면 70%가 걸려 전체 스캔이 오히려 맞는 계획이 된다)
+        boolean goe = (mask & 4) != 0;
+        boolean loe = (mask & 8) != 0;
+        if (goe && loe) {
+            condition.setAgeGoe(30);
+            condition.setAgeLoe(31);
+        } else if (goe) {
+            condition.setAgeGoe(98);
+        } else if (loe) {
+            condition.setAgeLoe(1);
+        }
+        return condition;
+    }
+
+    private static String describe(int mask) {
+        List<String> names = new ArrayList<>();
+        String[] all = {"username", "teamName", "ageGoe", "ageLoe"};
+        for (int bit = 0; bit < all.length; bit++) {
+            if ((mask & (1 << bit)) != 0) {
+                names.add(all[bit]);
+            }
+        }
+        return names.isEmpty() ? "(none)" : String.join("+", names);
+    }
+
+    private long averageMicros(MemberSearchCondition condition) {
+        for (int i = 0; i < WARMUP; i++) {
+            memberRepository.search(condition);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            memberRepository.search(condition);
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+}
@@ -0,0 +1,61 @@
+package study.querydsl.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 측정용 테스트에서 대량의 회원/팀 데이터를 JDBC 배치로 바로 넣는 도우미입니다.
+ *
+ * <p>엔티티를 거치지 않으므로 영속성 컨텍스트와 ID 시퀀스를 사용하지 않습니다.
+ * 시퀀스로 발급되는 ID 와 겹치지 않도록 {@link #ID_BASE}부터 ID를 직접 지정합니다.
+ * 스프링 트랜잭션 안에서 호출하면 같은 커넥션을 사용하므로 테스트 종료 시 함께 롤백됩니다.</p>
+ *
+ * <ul>
+ *   <li>팀: {@code team0 ~ team(teamCount-1)}</li>
+ *   <li>회원 i: username {@code member(i % distinctUsernames)}, age {@code i % 100}, team {@code i % teamCount}</li>
+ * </ul>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MemberBulkSeeder {
+
+    public static final long ID_BASE = 10_000_000L;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberBulkSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 팀 teamCount 개와 회원 memberCount 명을 넣습니다. 회원 i 의 ID 는 {@code ID_BASE + i}입니다.
+     */
+    public void seed(int memberCount, int teamCount, int distinctUsernames) {
+        List<Object[]> teams = new ArrayList<>(teamCount);
+        for (int t = 0; t < teamCount; t++) {
+            teams.add(new Object[]{ID_BASE + t, "team" + t});
+        }
+        jdbcTemplate.batchUpdate("insert into team (team_id, name) values (?, ?)", teams);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < memberCount; i++) {
+            batch.add(new Object[]{ID_BASE + i, "member" + (i % distinctUsernames), i % 100, ID_BASE + (i % teamCount)});
+            if (batch.size() == BATCH_SIZE) {
+                insertMembers(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertMembers(batch);
+        }
+    }
+
+    private void insertMembers(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("insert into member (member_id, username, age, team_id) values (?, ?, ?, ?)", batch);
+    }
+}
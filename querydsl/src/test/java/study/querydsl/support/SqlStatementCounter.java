@@ -0,0 +1,61 @@
+package study.querydsl.support;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * p6spy 가 가로챈 JDBC 실행을 기록하는 테스트용 {@link SimpleJdbcEventListener}입니다.
+ *
+ * <p>스프링 빈으로 등록하면 p6spy-spring-boot-starter 가 데이터소스 데코레이터에 연결하므로,
+ * 테스트 클래스에 {@code @Import(SqlStatementCounter.class)}를 붙여 사용합니다.
+ * executeBatch 는 묶음 하나를 한 번으로 셉니다.</p>
+ *
+ * @author 박재성
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SqlStatementCounter extends SimpleJdbcEventListener {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final List<String> statementsWithValues = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        statements.add(statementInformation.getSql());
+        statementsWithValues.add(statementInformation.getSqlWithValues());
+    }
+
+    /** 기록을 비웁니다. 측정하려는 구간 직전에 호출합니다. */
+    public void reset() {
+        statements.clear();
+        statementsWithValues.clear();
+    }
+
+    /** reset 이후 실행된 SQL 수 */
+    public int count() {
+        return statements.size();
+    }
+
+    /** reset 이후 실행된 SQL (실행 순서) */
+    public List<String> getStatements() {
+        return new ArrayList<>(statements);
+    }
+
+    /** reset 이후 실행된 SQL, 바인딩 값을 리터럴로 채운 형태 (EXPLAIN 등에 그대로 사용) */
+    public List<String> getStatementsWithValues() {
+        return new ArrayList<>(statementsWithValues);
+    }
+
+    /** reset 이후 실행된 SELECT 수 */
+    public int selectCount() {
+        return (int) statements.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .count();
+    }
+}